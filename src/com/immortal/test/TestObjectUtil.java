@@ -1,12 +1,28 @@
 package com.immortal.test;
 
 import com.immortal.util.objectutil.ObjectUtil;
+import com.immortal.util.objectutil.ReconcileResult;
+import com.immortal.util.objectutil.binary.BinaryReader;
+import com.immortal.util.objectutil.column.ColumnBatch;
+import com.immortal.util.objectutil.pool.RingTargetPool;
+import com.immortal.util.objectutil.pool.TargetPool;
+import com.immortal.util.objectutil.filed.converter.AsyncValueConverter;
 import com.immortal.util.objectutil.filed.converter.ValueConverter;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Immortal
@@ -130,9 +146,190 @@ class Target {
     }
 }
 
+class Order {
+    private long id;
+    private Long userId;
+
+    public Order(long id, Long userId) {
+        this.id = id;
+        this.userId = userId;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
+
+class OrderView {
+    private long id;
+    private String userName;
+
+    public OrderView() {
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public void setUserName(String userName) {
+        this.userName = userName;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderView{id=" + id + ", userName='" + userName + "'}";
+    }
+}
+
+enum Level {
+    LOW, HIGH
+}
+
+class Task {
+    private Level level;
+    private Boolean done;
+
+    public Task(Level level, Boolean done) {
+        this.level = level;
+        this.done = done;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public Boolean getDone() {
+        return done;
+    }
+}
+
+class TaskView {
+    private String level;
+    private String done;
+
+    public TaskView() {
+    }
+
+    public void setLevel(String level) {
+        this.level = level;
+    }
+
+    public void setDone(String done) {
+        this.done = done;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskView{level='" + level + "', done='" + done + "'}";
+    }
+}
+
+class Celsius {
+    final double value;
+
+    Celsius(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "Celsius{" + value + "}";
+    }
+}
+
+class Kelvin {
+    final double value;
+
+    Kelvin(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "Kelvin{" + value + "}";
+    }
+}
+
+class Rankine {
+    final double value;
+
+    Rankine(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "Rankine{" + value + "}";
+    }
+}
+
+class Fahrenheit {
+    final double value;
+
+    Fahrenheit(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "Fahrenheit{" + value + "}";
+    }
+}
+
+class Weather {
+    private Celsius temperature;
+    private Long observedAt;
+
+    public Weather(Celsius temperature, Long observedAt) {
+        this.temperature = temperature;
+        this.observedAt = observedAt;
+    }
+
+    public Celsius getTemperature() {
+        return temperature;
+    }
+
+    public Long getObservedAt() {
+        return observedAt;
+    }
+}
+
+class WeatherView {
+    private Fahrenheit temperature;
+    private int observedAt;
+
+    public WeatherView() {
+    }
+
+    public void setTemperature(Fahrenheit temperature) {
+        this.temperature = temperature;
+    }
+
+    public void setObservedAt(int observedAt) {
+        this.observedAt = observedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "WeatherView{temperature=" + temperature + ", observedAt=" + observedAt + "}";
+    }
+}
+
+interface TargetView {
+    String getName();
+
+    int getAge();
+
+    String getValue();
+}
+
 public class TestObjectUtil {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
 
         Src src = new Src("src", 1, 2, new Date());
         Target target = new Target();
@@ -146,7 +343,8 @@ public class TestObjectUtil {
         Map<String, String> map = new HashMap<String, String>();
         map.put("score", "value");
         // 由于score与value的类型不同,score是int,value是字符串,想要转换要加ValueConvert,
-        // 上面测试的转换time的类型不同,转换后taeget的time依然是null,
+        // 上面测试的转换time的类型不同,由内置的Date -> String转换器转换成yyyy-MM-dd HH:mm:ss,
+        // 内置转换器可以用addValueConvert覆盖
 
         // int -> String的值转换
         ObjectUtil.addValueConvert(new ValueConverter<Integer, String>() {
@@ -166,6 +364,139 @@ public class TestObjectUtil {
         System.out.println(src.toString());
         System.out.println(target.toString());
 
+        // 对象转换成map,同一个类的map共享key
+        System.out.println("对象转换成map");
+        System.out.println(ObjectUtil.object2Map(src));
+        System.out.println(ObjectUtil.list2Maps(Arrays.asList(src, new Src("src2", 3, 4, new Date()))));
+
+        // list按列转换,score映射到value列,int -> String使用上面的转换器
+        System.out.println("list按列转换");
+        List<Src> srcList = Arrays.asList(src, new Src("src2", 3, 4, new Date()));
+        ColumnBatch batch = ObjectUtil.list2Columns(srcList, Target.class, map);
+        System.out.println(Arrays.toString(batch.getIntColumn("age")));
+        System.out.println(Arrays.toString(batch.getObjectColumn("value")));
+        System.out.println(ObjectUtil.columns2List(batch, Target.class));
+
+        // list写入ByteBuffer,通过接口视图直接读取
+        System.out.println("list写入ByteBuffer");
+        ByteBuffer buffer = ObjectUtil.list2Buffer(Arrays.asList(src, null), Target.class, map,
+                ByteBuffer.allocateDirect(1024));
+        buffer.flip();
+        BinaryReader reader = ObjectUtil.buffer2Reader(buffer, Target.class);
+        TargetView view = reader.view(TargetView.class);
+        for (int i = 0; i < reader.size(); i++) {
+            reader.moveTo(i);
+            System.out.println(view.getName() + " " + view.getAge() + " " + view.getValue());
+        }
+        // 视图每次调用都会装箱,大量记录按下标和类型读取,null的源对象对应的记录中name是null
+        int nameSlot = reader.getLayout().indexOf("name");
+        int ageSlot = reader.getLayout().indexOf("age");
+        for (int i = 0; i < reader.size(); i++) {
+            reader.moveTo(i);
+            System.out.println(reader.getString(nameSlot) + " " + reader.getInt(ageSlot));
+        }
+
+        // 重复使用目标对象
+        System.out.println("重复使用目标对象");
+        TargetPool<Target> pool = new RingTargetPool<Target>(Target.class, 1);
+        for (Src s : srcList) {
+            Target t = ObjectUtil.object2PooledObject(s, pool, map);
+            System.out.println(t);
+            pool.release(t);
+        }
+
+        // 异步批量转换,用内存中的Map代替用户服务,所有订单的userId只查询一次
+        System.out.println("异步批量转换");
+        final Map<Long, String> userService = new HashMap<Long, String>();
+        userService.put(1L, "tom");
+        userService.put(2L, "jerry");
+        ObjectUtil.addAsyncValueConvert((AsyncValueConverter<Long, String>) ids -> {
+            System.out.println("batch lookup " + ids);
+            Map<Long, String> names = new HashMap<Long, String>();
+            for (Long id : ids) {
+                names.put(id, userService.get(id));
+            }
+            return CompletableFuture.completedFuture(names);
+        }, Long.class, String.class);
+        Map<String, String> orderMap = new HashMap<String, String>();
+        orderMap.put("userId", "userName");
+        List<Order> orders = Arrays.asList(new Order(1, 1L), new Order(2, 2L), new Order(3, 1L), new Order(4, null));
+        System.out.println(ObjectUtil.list2ListAsync(orders, OrderView.class, orderMap).join());
+
+        // 数组转换
+        System.out.println("数组转换");
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new int[]{1, 2, 3}, long[].class)));
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new char[]{'a', 'b'}, double[].class)));
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new short[]{1, -2}, float[].class)));
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new byte[]{3, -4}, short[].class)));
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new long[]{1L << 40}, float[].class)));
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new Object[]{"x", "y"}, String[].class)));
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(srcList.toArray(new Src[0]), Target[].class, map)));
+
+        // 按name同步list
+        System.out.println("按key同步list");
+        List<Target> cached = Arrays.asList(ObjectUtil.array2Array(srcList.toArray(new Src[0]), Target[].class, map));
+        // src被删除,src2的age被修改,src3是新增的
+        List<Src> newSrcList = Arrays.asList(new Src("src2", 5, 4, new Date()), new Src("src3", 6, 7, new Date()));
+        ReconcileResult<Target> result = ObjectUtil.reconcile(newSrcList, cached, Target.class,
+                Src::getName, Target::getName, map);
+        System.out.println(result + " " + result.getTargets());
+        // srcList中key相同的对象无法区分,在修改目标对象之前抛出IllegalArgumentException
+        try {
+            ObjectUtil.reconcile(Arrays.asList(newSrcList.get(0), newSrcList.get(0)), cached, Target.class,
+                    Src::getName, Target::getName, map);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+
+        // CSV和JSON-lines文件转换成对象,age列通过内置的String -> Integer转换器转换,abc转换失败不赋值
+        System.out.println("CSV和JSON-lines文件");
+        Path csv = Files.createTempFile("target", ".csv");
+        Files.write(csv, Arrays.asList("name,age,value", "csv1,7,a", "csv2,abc,b"), StandardCharsets.UTF_8);
+        try (Stream<Target> stream = ObjectUtil.csv2Stream(csv, Target.class)) {
+            System.out.println(stream.collect(Collectors.toList()));
+        }
+        Path jsonLines = Files.createTempFile("target", ".jsonl");
+        Files.write(jsonLines, Arrays.asList("{\"name\":\"json1\",\"age\":8}", "{\"name\":\"json2\",\"value\":null}"),
+                StandardCharsets.UTF_8);
+        try (Stream<Target> stream = ObjectUtil.jsonLines2Stream(jsonLines, Target.class)) {
+            System.out.println(stream.collect(Collectors.toList()));
+        }
+        Files.delete(csv);
+        Files.delete(jsonLines);
+
+        // 转换计划说明
+        System.out.println("转换计划说明");
+        System.out.println(ObjectUtil.explain(Src.class, Target.class, map));
+
+        // 内置转换器,转换失败的元素或属性不赋值
+        System.out.println("内置转换器");
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new String[]{"1", "abc", ""}, Integer[].class)));
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new String[]{"LOW", "HIGH"}, Level[].class)));
+        System.out.println(Arrays.toString(ObjectUtil.array2Array(new Level[]{Level.LOW, Level.HIGH}, Integer[].class)));
+        System.out.println(ObjectUtil.object2Object(new Task(Level.HIGH, true), TaskView.class));
+        // 去掉Boolean -> String的内置转换器后done不再赋值,
+        // 启动时加上-Dobjectutil.builtinConverters=false可以不添加所有内置转换器
+        ObjectUtil.removeValueConvert(Boolean.class, String.class);
+        System.out.println(ObjectUtil.object2Object(new Task(Level.HIGH, true), TaskView.class));
+
+        // 组合转换器,没有Celsius -> Fahrenheit的转换器时组合Celsius -> Kelvin -> Fahrenheit,
+        // 内置转换器不参与组合,Long不会经过String转换成int,observedAt超出int的范围,不赋值
+        System.out.println("组合转换器");
+        ObjectUtil.addValueConvert((ValueConverter<Celsius, Kelvin>) c -> new Kelvin(c.value + 273.15),
+                Celsius.class, Kelvin.class, 3);
+        ObjectUtil.addValueConvert((ValueConverter<Kelvin, Fahrenheit>) k -> new Fahrenheit(k.value * 9 / 5 - 459.67),
+                Kelvin.class, Fahrenheit.class);
+        Weather weather = new Weather(new Celsius(100), 5000000000L);
+        System.out.println(ObjectUtil.explain(Weather.class, WeatherView.class));
+        System.out.println(ObjectUtil.object2Object(weather, WeatherView.class));
+        // 加入代价之和更小的Celsius -> Rankine -> Fahrenheit后优先使用
+        ObjectUtil.addValueConvert((ValueConverter<Celsius, Rankine>) c -> new Rankine((c.value + 273.15) * 9 / 5),
+                Celsius.class, Rankine.class);
+        ObjectUtil.addValueConvert((ValueConverter<Rankine, Fahrenheit>) r -> new Fahrenheit(r.value - 459.67),
+                Rankine.class, Fahrenheit.class);
+        System.out.println(ObjectUtil.explain(Weather.class, WeatherView.class).getMappings().get(0));
+
     }
 
 }
@@ -0,0 +1,181 @@
+package com.immortal.util.objectutil;
+
+import com.immortal.util.objectutil.filed.converter.ComposedValueConverter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ObjectUtil.explain的结果,说明两个类之间的转换计划:哪些属性被匹配,使用什么方式赋值,<p>
+ * 使用了哪个转换器,以及哪些属性没有被匹配
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-17
+ */
+public class ConversionExplain {
+
+    /**
+     * 属性的赋值方式
+     */
+    public enum Strategy {
+        /**
+         * 类型兼容,通过反射直接赋值
+         */
+        DIRECT,
+        /**
+         * 通过ValueConverter转换后赋值
+         */
+        CONVERTER,
+        /**
+         * 通过AsyncValueConverter批量转换后赋值,只在list2ListAsync中生效
+         */
+        ASYNC_CONVERTER,
+        /**
+         * 数组属性,复制成新的数组后赋值
+         */
+        ARRAY_COPY,
+        /**
+         * 声明类型不兼容也没有转换器,但源属性的值可能是其他子类型,赋值时按值的实际类型<p>
+         * 查找转换器或直接赋值,都不行时属性会被丢弃
+         */
+        RUNTIME_LOOKUP,
+        /**
+         * 类型不兼容又没有转换器,运行时赋值会失败,属性会被丢弃
+         */
+        INCOMPATIBLE
+    }
+
+    private final Class<?> srcClass;
+
+    private final Class<?> targetClass;
+
+    private final long resolveNanos;
+
+    private final List<FiledMapping> mappings;
+
+    private final List<String> unmatchedSrcFileds;
+
+    private final List<String> unmatchedTargetFileds;
+
+    ConversionExplain(Class<?> srcClass, Class<?> targetClass, long resolveNanos, List<FiledMapping> mappings,
+                      List<String> unmatchedSrcFileds, List<String> unmatchedTargetFileds) {
+        this.srcClass = srcClass;
+        this.targetClass = targetClass;
+        this.resolveNanos = resolveNanos;
+        this.mappings = Collections.unmodifiableList(mappings);
+        this.unmatchedSrcFileds = Collections.unmodifiableList(unmatchedSrcFileds);
+        this.unmatchedTargetFileds = Collections.unmodifiableList(unmatchedTargetFileds);
+    }
+
+    public Class<?> getSrcClass() {
+        return srcClass;
+    }
+
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * @return 解析转换计划花费的纳秒数
+     */
+    public long getResolveNanos() {
+        return resolveNanos;
+    }
+
+    /**
+     * @return 匹配的属性
+     */
+    public List<FiledMapping> getMappings() {
+        return mappings;
+    }
+
+    /**
+     * @return 源对象中没有匹配到目标属性的可读属性
+     */
+    public List<String> getUnmatchedSrcFileds() {
+        return unmatchedSrcFileds;
+    }
+
+    /**
+     * @return 目标对象中没有被赋值的可写属性
+     */
+    public List<String> getUnmatchedTargetFileds() {
+        return unmatchedTargetFileds;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(srcClass.getName()).append(" -> ").append(targetClass.getName())
+                .append(" (resolved in ").append(resolveNanos / 1000).append(" us)\n");
+        for (FiledMapping mapping : mappings) {
+            sb.append("  ").append(mapping).append('\n');
+        }
+        sb.append("  unmatched src: ").append(unmatchedSrcFileds).append('\n');
+        sb.append("  unmatched target: ").append(unmatchedTargetFileds);
+        return sb.toString();
+    }
+
+    /**
+     * 一对匹配的属性
+     */
+    public static class FiledMapping {
+        private final String srcName;
+        private final Class<?> srcType;
+        private final String targetName;
+        private final Class<?> targetType;
+        private final Strategy strategy;
+        private final Object converter;
+
+        FiledMapping(String srcName, Class<?> srcType, String targetName, Class<?> targetType,
+                     Strategy strategy, Object converter) {
+            this.srcName = srcName;
+            this.srcType = srcType;
+            this.targetName = targetName;
+            this.targetType = targetType;
+            this.strategy = strategy;
+            this.converter = converter;
+        }
+
+        public String getSrcName() {
+            return srcName;
+        }
+
+        public Class<?> getSrcType() {
+            return srcType;
+        }
+
+        public String getTargetName() {
+            return targetName;
+        }
+
+        public Class<?> getTargetType() {
+            return targetType;
+        }
+
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * @return 使用的ValueConverter或AsyncValueConverter,没有为null
+         */
+        public Object getConverter() {
+            return converter;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(srcName).append('(').append(srcType.getSimpleName()).append(") -> ")
+                    .append(targetName).append('(').append(targetType.getSimpleName()).append(") ")
+                    .append(strategy);
+            if (converter != null) {
+                sb.append(" [").append(converter instanceof ComposedValueConverter
+                        ? converter.toString() : converter.getClass().getName()).append(']');
+            }
+            return sb.toString();
+        }
+    }
+}
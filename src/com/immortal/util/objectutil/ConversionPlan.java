@@ -0,0 +1,127 @@
+package com.immortal.util.objectutil;
+
+import com.immortal.util.objectutil.filed.converter.AsyncValueConverter;
+import com.immortal.util.objectutil.filed.converter.ValueConverter;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * 两个类之间的转换计划,保存源对象get方法与目标对象set方法的匹配结果以及<p>
+ * 根据声明类型预先查找的值转换器,由ObjectUtil创建并缓存
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-06-19
+ */
+final class ConversionPlan {
+
+    private final Class<?> srcType;
+
+    private final Class<?> targetType;
+
+    private final Pair[] pairs;
+
+    /**
+     * 解析本计划花费的纳秒数
+     */
+    private final long resolveNanos;
+
+    ConversionPlan(Class<?> srcType, Class<?> targetType, Pair[] pairs, long resolveNanos) {
+        this.srcType = srcType;
+        this.targetType = targetType;
+        this.pairs = pairs;
+        this.resolveNanos = resolveNanos;
+    }
+
+    Class<?> getSrcType() {
+        return srcType;
+    }
+
+    Class<?> getTargetType() {
+        return targetType;
+    }
+
+    Pair[] getPairs() {
+        return pairs;
+    }
+
+    long getResolveNanos() {
+        return resolveNanos;
+    }
+
+    /**
+     * 一对匹配的get方法和set方法
+     */
+    static final class Pair {
+        final String srcName;
+        final Method getter;
+        final String targetName;
+        final Method setter;
+        /**
+         * set方法的参数类型
+         */
+        final Class<?> targetType;
+        /**
+         * 根据get方法的返回值类型和set方法的参数类型找到的转换器,没有为null
+         */
+        final ValueConverter<Object, Object> converter;
+        /**
+         * 没有converter时找到的异步批量转换器,没有为null
+         */
+        final AsyncValueConverter<Object, Object> asyncConverter;
+        /**
+         * 声明类型不兼容又没有转换器,但get方法的返回值可能是其他子类型,赋值时按值的实际类型查找转换器
+         */
+        final boolean runtimeLookup;
+
+        Pair(String srcName, Method getter, String targetName, Method setter,
+             ValueConverter<Object, Object> converter, AsyncValueConverter<Object, Object> asyncConverter,
+             boolean runtimeLookup) {
+            this.srcName = srcName;
+            this.getter = getter;
+            this.targetName = targetName;
+            this.setter = setter;
+            this.targetType = setter.getParameterTypes()[0];
+            this.converter = converter;
+            this.asyncConverter = asyncConverter;
+            this.runtimeLookup = runtimeLookup;
+        }
+    }
+
+    /**
+     * 转换计划缓存的key
+     */
+    static final class Key {
+        private final Class<?> srcType;
+        private final Class<?> targetType;
+        private final Map<String, String> map;
+
+        Key(Class<?> srcType, Class<?> targetType, Map<String, String> map) {
+            this.srcType = srcType;
+            this.targetType = targetType;
+            this.map = map;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return srcType == key.srcType && targetType == key.targetType
+                    && (map == null ? key.map == null : map.equals(key.map));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = srcType.hashCode();
+            result = 31 * result + targetType.hashCode();
+            result = 31 * result + (map == null ? 0 : map.hashCode());
+            return result;
+        }
+    }
+}
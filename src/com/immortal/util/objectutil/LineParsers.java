@@ -0,0 +1,193 @@
+package com.immortal.util.objectutil;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * CSV和JSON-lines的行解析,每次只解析一行,解析的值直接交给调用者,不创建Map
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-08-14
+ */
+final class LineParsers {
+
+    private LineParsers() {
+    }
+
+    /**
+     * 解析一行CSV,支持双引号包含的字段和""转义,不支持字段中的换行
+     *
+     * @param line      一行
+     * @param separator 分隔符
+     * @param fields    解析后的字段,调用前会被清空
+     */
+    static void splitCsv(String line, char separator, List<String> fields) {
+        fields.clear();
+        StringBuilder quoted = null;
+        int start = 0;
+        int i = 0;
+        int length = line.length();
+        while (i <= length) {
+            if (i < length && line.charAt(i) == '"' && i == start) {
+                // 双引号包含的字段
+                quoted = new StringBuilder();
+                i++;
+                while (i < length) {
+                    char c = line.charAt(i++);
+                    if (c == '"') {
+                        if (i < length && line.charAt(i) == '"') {
+                            quoted.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+                continue;
+            }
+            if (i == length || line.charAt(i) == separator) {
+                fields.add(quoted != null ? quoted.toString() : line.substring(start, i));
+                quoted = null;
+                start = i + 1;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * 解析一行扁平的JSON对象,每个属性调用一次handler,字符串的值去掉引号并处理转义,<p>
+     * 数字,true和false保留原来的文本,null不调用handler,嵌套的对象和数组作为原始JSON文本
+     *
+     * @param line    一行JSON
+     * @param handler 属性名称和值的文本
+     */
+    static void parseJsonLine(String line, BiConsumer<String, String> handler) {
+        int[] pos = {skipWhitespace(line, 0)};
+        expect(line, pos, '{');
+        if (peek(line, pos) == '}') {
+            return;
+        }
+        while (true) {
+            String key = readString(line, pos);
+            expect(line, pos, ':');
+            char c = peek(line, pos);
+            String value;
+            if (c == '"') {
+                value = readString(line, pos);
+            } else if (c == '{' || c == '[') {
+                value = readNested(line, pos);
+            } else {
+                int start = pos[0];
+                while (pos[0] < line.length() && ",} \t".indexOf(line.charAt(pos[0])) < 0) {
+                    pos[0]++;
+                }
+                value = line.substring(start, pos[0]);
+                if ("null".equals(value)) {
+                    value = null;
+                }
+            }
+            if (value != null) {
+                handler.accept(key, value);
+            }
+            c = peek(line, pos);
+            pos[0]++;
+            if (c == '}') {
+                return;
+            } else if (c != ',') {
+                throw new IllegalArgumentException("invalid json at " + (pos[0] - 1) + ": " + line);
+            }
+        }
+    }
+
+    private static String readString(String line, int[] pos) {
+        expect(line, pos, '"');
+        StringBuilder sb = null;
+        int start = pos[0];
+        while (pos[0] < line.length()) {
+            char c = line.charAt(pos[0]++);
+            if (c == '"') {
+                return sb == null ? line.substring(start, pos[0] - 1) : sb.toString();
+            }
+            if (c == '\\') {
+                if (sb == null) {
+                    sb = new StringBuilder(line.substring(start, pos[0] - 1));
+                }
+                char e = line.charAt(pos[0]++);
+                switch (e) {
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 'b':
+                        sb.append('\b');
+                        break;
+                    case 'f':
+                        sb.append('\f');
+                        break;
+                    case 'u':
+                        sb.append((char) Integer.parseInt(line.substring(pos[0], pos[0] + 4), 16));
+                        pos[0] += 4;
+                        break;
+                    default:
+                        sb.append(e);
+                }
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        throw new IllegalArgumentException("unterminated string: " + line);
+    }
+
+    private static String readNested(String line, int[] pos) {
+        int start = pos[0];
+        int depth = 0;
+        boolean inString = false;
+        while (pos[0] < line.length()) {
+            char c = line.charAt(pos[0]++);
+            if (inString) {
+                if (c == '\\') {
+                    pos[0]++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                return line.substring(start, pos[0]);
+            }
+        }
+        throw new IllegalArgumentException("unterminated json: " + line);
+    }
+
+    private static char peek(String line, int[] pos) {
+        pos[0] = skipWhitespace(line, pos[0]);
+        if (pos[0] >= line.length()) {
+            throw new IllegalArgumentException("unexpected end of json: " + line);
+        }
+        return line.charAt(pos[0]);
+    }
+
+    private static void expect(String line, int[] pos, char c) {
+        if (peek(line, pos) != c) {
+            throw new IllegalArgumentException("expect '" + c + "' at " + pos[0] + ": " + line);
+        }
+        pos[0]++;
+    }
+
+    private static int skipWhitespace(String line, int i) {
+        while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
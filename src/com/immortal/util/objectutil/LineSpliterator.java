@@ -0,0 +1,218 @@
+package com.immortal.util.objectutil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 按行读取文件中一段字节范围的Spliterator,每行通过parser转换成一个对象.<p>
+ * 通过FileChannel按位置读取,每个Spliterator只有一个固定大小的缓冲区,因此内存占用<p>
+ * 与文件大小无关.每个Spliterator第一次读取时从parsers创建自己的parser,parser可以<p>
+ * 在本段内复用缓冲区而不用考虑并发.<p>
+ * 拆分时在中间位置之后的第一个换行处拆开,每段只处理开始位置在本段内的行
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-08-14
+ */
+final class LineSpliterator<T> implements Spliterator<T> {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 小于这个字节数的范围不再拆分
+     */
+    private static final long MIN_SPLIT_SIZE = 1024 * 1024;
+
+    private final FileChannel channel;
+
+    private final Supplier<Function<String, T>> parsers;
+
+    /**
+     * 本段使用的parser,第一次读取时创建,拆分出的Spliterator使用各自的parser
+     */
+    private Function<String, T> parser;
+
+    /**
+     * 下一行开始的位置
+     */
+    private long position;
+
+    /**
+     * 本段结束的位置,开始位置小于end的行属于本段
+     */
+    private long end;
+
+    private ByteBuffer buffer;
+
+    /**
+     * buffer中下一个字节在文件中的位置
+     */
+    private long bufferPosition;
+
+    private byte[] line = new byte[256];
+
+    /**
+     * @param channel  文件,多个Spliterator共用,只使用按位置读取
+     * @param position 开始的位置,必须是一行的开始
+     * @param end      结束的位置
+     * @param parsers  每段创建一个把一行转换成对象的parser,parser返回null时跳过这一行
+     */
+    LineSpliterator(FileChannel channel, long position, long end, Supplier<Function<String, T>> parsers) {
+        this.channel = channel;
+        this.position = position;
+        this.end = end;
+        this.parsers = parsers;
+    }
+
+    /**
+     * 读取文件的第一行
+     *
+     * @param channel 文件
+     * @return 第一行和第一行之后的位置, 空文件返回null
+     */
+    static Object[] readFirstLine(FileChannel channel) {
+        LineSpliterator<String> spliterator = new LineSpliterator<String>(channel, 0, Long.MAX_VALUE,
+                () -> Function.<String>identity());
+        String first = spliterator.readLine();
+        return first == null ? null : new Object[]{first, spliterator.position};
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (parser == null) {
+            parser = parsers.get();
+        }
+        while (position < end) {
+            String text = readLine();
+            if (text == null) {
+                return false;
+            }
+            T t = text.isEmpty() ? null : parser.apply(text);
+            if (t != null) {
+                action.accept(t);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (end - position < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        long mid = nextLineStart(position + (end - position) / 2);
+        if (mid <= position || mid >= end) {
+            return null;
+        }
+        LineSpliterator<T> prefix = new LineSpliterator<T>(channel, position, mid, parsers);
+        position = mid;
+        buffer = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * 读取从position开始的一行,去掉行尾的\r\n
+     *
+     * @return 一行, 文件结束返回null
+     */
+    private String readLine() {
+        if (buffer == null || bufferPosition != position) {
+            buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.flip();
+            bufferPosition = position;
+        }
+
+        int length = 0;
+        boolean eof = false;
+        while (true) {
+            if (!buffer.hasRemaining() && !fill()) {
+                eof = true;
+                break;
+            }
+            byte b = buffer.get();
+            bufferPosition++;
+            if (b == '\n') {
+                break;
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+        }
+        position = bufferPosition;
+
+        if (eof && length == 0) {
+            return null;
+        }
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, UTF_8);
+    }
+
+    /**
+     * 从bufferPosition开始读满buffer
+     *
+     * @return 文件结束返回false
+     */
+    private boolean fill() {
+        buffer.clear();
+        try {
+            int n = channel.read(buffer, bufferPosition);
+            buffer.flip();
+            return n > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 查找from之后第一个行的开始位置
+     *
+     * @param from 开始查找的位置
+     * @return 行的开始位置, 没有找到返回-1
+     */
+    private long nextLineStart(long from) {
+        ByteBuffer scan = ByteBuffer.allocate(4096);
+        long p = from - 1;
+        try {
+            while (p < end) {
+                scan.clear();
+                int n = channel.read(scan, p);
+                if (n <= 0) {
+                    return -1;
+                }
+                for (int i = 0; i < n; i++) {
+                    if (scan.get(i) == '\n') {
+                        return p + i + 1;
+                    }
+                }
+                p += n;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return -1;
+    }
+}
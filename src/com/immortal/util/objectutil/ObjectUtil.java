@@ -2,17 +2,51 @@ package com.immortal.util.objectutil;
 
 import com.immortal.util.objectutil.filed.compare.FiledCompare;
 import com.immortal.util.objectutil.filed.compare.SimpleFiledCompare;
+import com.immortal.util.objectutil.filed.converter.AsyncValueConverter;
+import com.immortal.util.objectutil.filed.converter.BuiltinValueConverters;
+import com.immortal.util.objectutil.filed.converter.ComposedValueConverter;
 import com.immortal.util.objectutil.filed.converter.ValueConverter;
+import com.immortal.util.objectutil.binary.BinaryLayout;
+import com.immortal.util.objectutil.binary.BinaryReader;
+import com.immortal.util.objectutil.binary.BinaryWriter;
+import com.immortal.util.objectutil.column.ColumnBatch;
+import com.immortal.util.objectutil.event.ConversionEvents;
+import com.immortal.util.objectutil.map.SharedKeyMap;
+import com.immortal.util.objectutil.pool.TargetPool;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 本类提供把一个对象转换成另外一个对象,转换的原则是通过原来对象的get方法获<p>
@@ -86,6 +120,54 @@ public abstract class ObjectUtil {
     private static Map<Class<?>/*原类型,转换后的类型*/, Map<Class<?>, ValueConverter<?, ?>/*对应的转换对象*/>> valueConverts =
             new HashMap<Class<?>, Map<Class<?>, ValueConverter<?, ?>>>(10);
 
+    /**
+     * 值转换的代价,用于查找组合转换的最短路径
+     */
+    private static Map<Class<?>, Map<Class<?>, Integer>> valueConvertCosts =
+            new HashMap<Class<?>, Map<Class<?>, Integer>>(10);
+
+    /**
+     * 没有直接转换器时组合出来的转换器,找不到路径的也缓存,值为NO_VALUE_CONVERT
+     */
+    private static final Map<ConversionPlan.Key, ValueConverter<?, ?>> composedValueConverts =
+            new ConcurrentHashMap<ConversionPlan.Key, ValueConverter<?, ?>>();
+
+    private static final ValueConverter<?, ?> NO_VALUE_CONVERT = o -> o;
+
+    private static final int DEFAULT_CONVERT_COST = 1;
+
+    /**
+     * 内置转换器抛出异常时convertValue的返回值,比如"abc"转换成Integer
+     */
+    private static final Object CONVERT_FAILED = new Object();
+
+    /**
+     * 组合转换最多使用的转换器数量
+     */
+    private static final int MAX_CONVERT_HOPS = 3;
+
+    /**
+     * 异步批量值转换
+     */
+    private static Map<Class<?>/*原类型,转换后的类型*/, Map<Class<?>, AsyncValueConverter<?, ?>/*对应的转换对象*/>> asyncValueConverts =
+            new HashMap<Class<?>, Map<Class<?>, AsyncValueConverter<?, ?>>>(4);
+
+    /**
+     * 对象数组的长度达到这个值时并行转换
+     */
+    private static final int PARALLEL_ARRAY_THRESHOLD = 4096;
+
+    /**
+     * 转换计划的缓存,添加FiledCompare或ValueConvert后清空
+     */
+    private static final Map<ConversionPlan.Key, ConversionPlan> conversionPlans =
+            new ConcurrentHashMap<ConversionPlan.Key, ConversionPlan>();
+
+    /**
+     * 类的二进制布局
+     */
+    private static final Map<Class<?>, BinaryLayout> binaryLayouts = new ConcurrentHashMap<Class<?>, BinaryLayout>();
+
     static {
         javaTypeMap.put(boolean.class, Boolean.class);
         javaTypeMap.put(byte.class, Byte.class);
@@ -100,11 +182,14 @@ public abstract class ObjectUtil {
         addFiledCompare(new SimpleFiledCompare());
 
         // 添加值转换
-        // addValueConvert(new Int2StringConvert());
+        if (BuiltinValueConverters.ENABLED) {
+            BuiltinValueConverters.addAll();
+        }
     }
 
     public static void addFiledCompare(FiledCompare filedCompare) {
         filedCompares.add(filedCompare);
+        conversionPlans.clear();
     }
 
     /**
@@ -115,12 +200,58 @@ public abstract class ObjectUtil {
      * @param targetClass  转换到新对象
      */
     public static void addValueConvert(ValueConverter<?, ?> valueConvert, Class<?> srcClass, Class<?> targetClass) {
+        addValueConvert(valueConvert, srcClass, targetClass, DEFAULT_CONVERT_COST);
+    }
+
+    /**
+     * 添加一个ValueConvert并指定转换的代价.没有直接的转换器时,会在使用者添加的转换器中<p>
+     * 查找代价之和最小的转换路径(最多MAX_CONVERT_HOPS步),比如有A -> B和B -> C时,<p>
+     * A -> C会依次使用这两个转换器.代价越小越优先,默认是1.内置转换器不参与组合
+     *
+     * @param valueConvert ValueConverter
+     * @param srcClass     源对象对象
+     * @param targetClass  转换到新对象
+     * @param cost         转换的代价,必须大于0
+     */
+    public static void addValueConvert(ValueConverter<?, ?> valueConvert, Class<?> srcClass, Class<?> targetClass,
+                                       int cost) {
+        if (cost <= 0)
+            throw new IllegalArgumentException("cost must be positive: " + cost);
         Map<Class<?>, ValueConverter<?, ?>> value = null;
         if ((value = valueConverts.get(srcClass)) == null) {
             value = new HashMap<Class<?>, ValueConverter<?, ?>>(1);
         }
         value.put(targetClass, valueConvert);
         valueConverts.put(srcClass, value);
+
+        Map<Class<?>, Integer> costs = null;
+        if ((costs = valueConvertCosts.get(srcClass)) == null) {
+            costs = new HashMap<Class<?>, Integer>(1);
+            valueConvertCosts.put(srcClass, costs);
+        }
+        costs.put(targetClass, cost);
+
+        composedValueConverts.clear();
+        conversionPlans.clear();
+    }
+
+    /**
+     * 去掉一个ValueConvert,可以用来去掉不需要的内置转换器
+     *
+     * @param srcClass    源对象对象
+     * @param targetClass 转换到新对象
+     */
+    public static void removeValueConvert(Class<?> srcClass, Class<?> targetClass) {
+        Map<Class<?>, ValueConverter<?, ?>> value = valueConverts.get(srcClass);
+        if (value != null) {
+            value.remove(targetClass);
+        }
+        Map<Class<?>, Integer> costs = valueConvertCosts.get(srcClass);
+        if (costs != null) {
+            costs.remove(targetClass);
+        }
+        composedValueConverts.clear();
+        conversionPlans.clear();
     }
 
     /**
@@ -136,6 +267,25 @@ public abstract class ObjectUtil {
         }
     }
 
+    /**
+     * 添加一个异步批量值转换器,只在list2ListAsync中使用,同样类型添加的ValueConverter优先,<p>
+     * 内置转换器除外
+     *
+     * @param asyncValueConvert AsyncValueConverter
+     * @param srcClass          源对象对象
+     * @param targetClass       转换到新对象
+     */
+    public static void addAsyncValueConvert(AsyncValueConverter<?, ?> asyncValueConvert,
+                                            Class<?> srcClass, Class<?> targetClass) {
+        Map<Class<?>, AsyncValueConverter<?, ?>> value = null;
+        if ((value = asyncValueConverts.get(srcClass)) == null) {
+            value = new HashMap<Class<?>, AsyncValueConverter<?, ?>>(1);
+        }
+        value.put(targetClass, asyncValueConvert);
+        asyncValueConverts.put(srcClass, value);
+        conversionPlans.clear();
+    }
+
     // -------------------------------------------
     //             一个对象转换到另一个对象
     // -------------------------------------------
@@ -164,6 +314,8 @@ public abstract class ObjectUtil {
         if (srcObj == null || targetObj == null)
             return null;
 
+        Object event = ConversionEvents.beginConversion();
+
         Method[] targetObjSetMethods = getMethodsStartWith(targetObj.getClass(), "set");
         Method[] srcObjGetMethods = getMethodsStartWith(srcObj.getClass(), "get");
 
@@ -190,6 +342,9 @@ public abstract class ObjectUtil {
             // copy值
             copyValue(srcObjGetMethod, invokeTargetObjMethod, srcObj, targetObj);
         }
+
+        if (event != null)
+            ConversionEvents.commitConversion(event, srcObj.getClass(), targetObj.getClass());
         return targetObj;
     }
 
@@ -277,6 +432,178 @@ public abstract class ObjectUtil {
     }
 
 
+    /**
+     * 从对象池中取出目标对象,把映射的属性重置后重新赋值,用于流式处理中重复使用目标对象.<p>
+     * 所有匹配的属性都会被赋值,源对象的值为null时目标属性被设置成默认值,因此不会残留<p>
+     * 上一条记录的值.下游使用完目标对象后需要调用pool.release放回池中
+     * <blockquote><pre>
+     * TargetPool<Target> pool = new RingTargetPool<Target>(Target.class, 64);
+     * for (Src src : records) {
+     *     Target target = ObjectUtil.object2PooledObject(src, pool, map);
+     *     downstream.accept(target); // 处理完后 pool.release(target)
+     * }
+     * </pre></blockquote>
+     *
+     * @param srcObj 源对象对象
+     * @param pool   目标对象池
+     * @param map    把不同字段的属性进行自定义映射
+     * @param <T>    转换后对象的类型
+     * @param <K>    原来对象的类型
+     * @return 从池中取出并赋值后的目标对象
+     */
+    public static <T, K> T object2PooledObject(final K srcObj, final TargetPool<T> pool, final Map<String, String> map) {
+        if (srcObj == null)
+            return null;
+
+        T targetObj = pool.acquire();
+        try {
+            copyByPlan(getConversionPlan(srcObj.getClass(), targetObj.getClass(), map), srcObj, targetObj);
+        } catch (RuntimeException | Error e) {
+            // 转换失败时放回池中,避免固定大小的池泄漏后acquire一直阻塞
+            pool.release(targetObj);
+            throw e;
+        }
+        return targetObj;
+    }
+
+    // -------------------------------------------
+    //             按key同步两个list
+    // -------------------------------------------
+
+    /**
+     * 按key把源对象list同步到已有的目标对象list.先按targetKey建立目标对象的索引,<p>
+     * 然后对每个源对象按srcKey查找目标对象:没有找到的新建并转换;找到的逐个比较<p>
+     * 转换后的值与目标对象当前的值,只给不同的属性赋值;没有被源对象匹配到的目标对象<p>
+     * 视为删除.比较需要目标对象每个被匹配的属性都有get方法,srcList或者targetList中key相同<p>
+     * 的对象无法区分,这些情况在修改任何目标对象之前抛出IllegalArgumentException.<p>
+     * 新建和合并使用相同的赋值规则:值为null或者内置转换器转换失败时按目标属性的默认值处理,<p>
+     * 所以合并时转换失败的属性会被重置为默认值,不会保留目标对象原来的值.<p>
+     * targetList本身不会被修改,同步后的list通过ReconcileResult.getTargets获取
+     * <blockquote><pre>
+     * ReconcileResult<Target> result = ObjectUtil.reconcile(srcList, cached, Target.class,
+     *         Src::getId, Target::getId, null);
+     * cached = result.getTargets();
+     * </pre></blockquote>
+     *
+     * @param srcList         新的源对象list
+     * @param targetList      已有的目标对象list
+     * @param targetClassType 目标对象的class,新建目标对象时使用
+     * @param srcKey          获取源对象的key
+     * @param targetKey       获取目标对象的key
+     * @param map             把不同字段的属性进行自定义映射
+     * @param <T>             转换后对象的类型
+     * @param <K>             list中原来对象的类型
+     * @param <I>             key的类型
+     * @return 同步的结果
+     * @throws IllegalArgumentException 被匹配的目标属性没有get方法或者srcList,targetList中有相同key的对象
+     */
+    public static <T, K, I> ReconcileResult<T> reconcile(final List<K> srcList, final List<T> targetList,
+                                                         final Class<T> targetClassType,
+                                                         final Function<? super K, ? extends I> srcKey,
+                                                         final Function<? super T, ? extends I> targetKey,
+                                                         final Map<String, String> map) {
+        Map<I, T> index = new HashMap<I, T>(targetList == null ? 16 : targetList.size() * 4 / 3 + 1);
+        if (targetList != null) {
+            for (T targetObj : targetList) {
+                if (targetObj == null)
+                    continue;
+                I key = targetKey.apply(targetObj);
+                if (index.put(key, targetObj) != null)
+                    throw new IllegalArgumentException("duplicate target key: " + key);
+            }
+        }
+
+        // 先检查源对象的key和每种源对象的转换计划,被匹配的目标属性都要有get方法才能比较
+        PropertyPlan targetPlan = PropertyPlan.of(targetClassType);
+        Map<Class<?>, ConversionPlan> plans = new HashMap<Class<?>, ConversionPlan>(4);
+        List<I> srcKeys = new ArrayList<I>(srcList.size());
+        Set<I> seenKeys = new HashSet<I>(srcList.size() * 4 / 3 + 1);
+        for (K srcObj : srcList) {
+            if (srcObj == null)
+                continue;
+            I key = srcKey.apply(srcObj);
+            if (!seenKeys.add(key))
+                throw new IllegalArgumentException("duplicate source key: " + key);
+            srcKeys.add(key);
+            if (plans.containsKey(srcObj.getClass()))
+                continue;
+            ConversionPlan plan = getConversionPlan(srcObj.getClass(), targetClassType, map);
+            for (ConversionPlan.Pair pair : plan.getPairs()) {
+                if (targetPlan.getGetter(pair.targetName) == null)
+                    throw new IllegalArgumentException(targetClassType.getName() + " has no getter for "
+                            + pair.targetName);
+            }
+            plans.put(srcObj.getClass(), plan);
+        }
+
+        List<T> targets = new ArrayList<T>(srcList.size());
+        List<T> inserted = new ArrayList<T>();
+        List<T> updated = new ArrayList<T>();
+        int unchanged = 0;
+        int keyIndex = 0;
+        for (K srcObj : srcList) {
+            if (srcObj == null)
+                continue;
+            ConversionPlan plan = plans.get(srcObj.getClass());
+
+            T targetObj = index.remove(srcKeys.get(keyIndex++));
+            if (targetObj == null) {
+                targetObj = newObject(targetClassType);
+                copyByPlan(plan, srcObj, targetObj);
+                inserted.add(targetObj);
+            } else if (mergeByPlan(plan, targetPlan, srcObj, targetObj)) {
+                updated.add(targetObj);
+            } else {
+                unchanged++;
+            }
+            targets.add(targetObj);
+        }
+
+        return new ReconcileResult<T>(targets, inserted, updated, new ArrayList<T>(index.values()), unchanged);
+    }
+
+    // -------------------------------------------
+    //             一个数组转换到另一个数组
+    // -------------------------------------------
+
+    /**
+     * 把数组转换成另一种类型的数组,支持基本类型数组和对象数组:
+     * <blockquote><pre>
+     * 相同类型的基本类型数组      Arrays.copyOf批量复制
+     * int[] -> long[]等拓宽      循环复制
+     * 有ValueConverter的元素     逐个转换
+     * 对象数组                   按转换计划逐个转换,长度超过4096时并行转换
+     * 元素类型不是bean的对象数组  按元素的实际类型赋值或查找转换器,比如Object[] -> String[]
+     * </pre></blockquote>
+     * 结果总是新的数组,不会与源数组共用
+     *
+     * @param srcArray        源数组
+     * @param targetArrayType 目标数组的class,比如long[].class,Target[].class
+     * @param map             元素是对象时,把不同字段的属性进行自定义映射
+     * @param <T>             目标数组的类型
+     * @return 转换后的数组
+     * @throws IllegalArgumentException 元素不能转换成目标数组的元素类型
+     */
+    public static <T> T array2Array(final Object srcArray, final Class<T> targetArrayType, final Map<String, String> map) {
+        if (srcArray == null)
+            return null;
+        if (!srcArray.getClass().isArray() || !targetArrayType.isArray())
+            throw new IllegalArgumentException("srcArray and targetArrayType must be array");
+        return targetArrayType.cast(copyArray(srcArray, targetArrayType.getComponentType(), map));
+    }
+
+    /**
+     * 把数组转换成另一种类型的数组
+     *
+     * @param srcArray        源数组
+     * @param targetArrayType 目标数组的class,比如long[].class,Target[].class
+     * @param <T>             目标数组的类型
+     * @return 转换后的数组
+     */
+    public static <T> T array2Array(final Object srcArray, final Class<T> targetArrayType) {
+        return array2Array(srcArray, targetArrayType, null);
+    }
+
     // -------------------------------------------
     //             map转到一个对象
     // -------------------------------------------
@@ -313,10 +640,483 @@ public abstract class ObjectUtil {
         return map2Object(map, newObject(targetClassType));
     }
 
+    // -------------------------------------------
+    //             一个对象转换到map
+    // -------------------------------------------
+
+    /**
+     * 把对象转换成map,key是对象的属性名称,value是get方法的返回值.<p>
+     * 返回的map的key由同一个类的所有map共享,每个map只保存值数组,可以修改已有key的值,<p>
+     * 但不能添加或删除key
+     *
+     * @param srcObj 要转换的对象
+     * @return 转换后的map, srcObj为null时返回null
+     */
+    public static Map<String, Object> object2Map(final Object srcObj) {
+        if (srcObj == null)
+            return null;
+        return object2Map(srcObj, PropertyPlan.of(srcObj.getClass()));
+    }
+
+    /**
+     * 把list中的每个对象转换成map,同一个类的对象转换出来的map共享key
+     *
+     * @param srcList 源对象list
+     * @param <K>     list中原来对象的类型
+     * @return 转换后的map的list
+     */
+    public static <K> List<Map<String, Object>> list2Maps(final List<K> srcList) {
+        if (srcList == null)
+            return null;
+
+        List<Map<String, Object>> targetList = new ArrayList<Map<String, Object>>(srcList.size());
+        PropertyPlan plan = null;
+        for (K srcObj : srcList) {
+            if (srcObj == null) {
+                targetList.add(null);
+                continue;
+            }
+            if (plan == null || plan.getType() != srcObj.getClass()) {
+                plan = PropertyPlan.of(srcObj.getClass());
+            }
+            targetList.add(object2Map(srcObj, plan));
+        }
+        return targetList;
+    }
+
+    // -------------------------------------------
+    //             list与按列保存的ColumnBatch相互转换
+    // -------------------------------------------
+
+    /**
+     * 把list中的对象直接按列写入ColumnBatch,列由columnClassType的set方法与源对象的get方法<p>
+     * 匹配得到,列名称和类型是columnClassType的属性名称和set方法的参数类型.如果源对象属性的<p>
+     * 类型与列的类型不同,使用ValueConverter转换,每列的转换器只查找一次.list为空时返回没有列的ColumnBatch
+     *
+     * @param srcList         源对象list,list中对象的类型必须一致
+     * @param columnClassType 决定列的类
+     * @param map             把不同字段的属性进行自定义映射
+     * @param <K>             list中原来对象的类型
+     * @return 按列保存的对象
+     */
+    public static <K> ColumnBatch list2Columns(final List<K> srcList, final Class<?> columnClassType,
+                                               final Map<String, String> map) {
+        if (srcList == null)
+            return null;
+
+        Class<?> srcClass = null;
+        for (K srcObj : srcList) {
+            if (srcObj != null) {
+                srcClass = srcObj.getClass();
+                break;
+            }
+        }
+        if (srcClass == null)
+            return new ColumnBatch(new String[0], new Class<?>[0], srcList.size());
+
+        ConversionPlan.Pair[] pairs = getConversionPlan(srcClass, columnClassType, map).getPairs();
+        String[] names = new String[pairs.length];
+        Class<?>[] types = new Class<?>[pairs.length];
+        for (int i = 0; i < pairs.length; i++) {
+            names[i] = pairs[i].targetName;
+            types[i] = pairs[i].targetType;
+        }
+
+        ColumnBatch batch = new ColumnBatch(names, types, srcList.size());
+        for (int row = 0; row < srcList.size(); row++) {
+            K srcObj = srcList.get(row);
+            if (srcObj == null)
+                continue;
+            for (int column = 0; column < pairs.length; column++) {
+                Object value = convertPairValue(pairs[column], PropertyPlan.readValue(pairs[column].getter, srcObj));
+                if (value == CONVERT_FAILED)
+                    continue;
+                try {
+                    batch.set(column, row, value);
+                } catch (ClassCastException e) {
+                    // 类型不一致又没有转换器,保留默认值
+                    // log.warn(e.getMessage());
+                }
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 把list中的对象直接按列写入ColumnBatch,列与源对象的属性一一对应
+     *
+     * @param srcList         源对象list,list中对象的类型必须一致
+     * @param columnClassType 决定列的类
+     * @param <K>             list中原来对象的类型
+     * @return 按列保存的对象
+     */
+    public static <K> ColumnBatch list2Columns(final List<K> srcList, final Class<?> columnClassType) {
+        return list2Columns(srcList, columnClassType, null);
+    }
+
+    /**
+     * 把ColumnBatch中的每一行转换成一个对象,列名称与目标对象的属性名称匹配,<p>
+     * 没有匹配的在map中找.如果列的类型与set方法的参数类型不同,使用ValueConverter转换
+     *
+     * @param batch           按列保存的对象
+     * @param targetClassType 目标对象的class
+     * @param map             把列名称映射到目标对象的属性名称
+     * @param <T>             转换后对象的类型
+     * @return 转换后的list
+     */
+    public static <T> List<T> columns2List(final ColumnBatch batch, final Class<T> targetClassType,
+                                           final Map<String, String> map) {
+        if (batch == null)
+            return null;
+
+        // 每列对应的set方法和转换器只查找一次
+        Method[] targetObjSetMethods = PropertyPlan.of(targetClassType).getSetters();
+        int columnCount = batch.getColumnCount();
+        Method[] setters = new Method[columnCount];
+        List<ValueConverter<Object, Object>> converters = new ArrayList<ValueConverter<Object, Object>>(columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            String name = batch.getName(column);
+            Method setter = getInvokeTargetMethod(name, targetObjSetMethods);
+            if (setter == null && map != null)
+                setter = getInvokeTargetMethod(map.get(name), targetObjSetMethods);
+            setters[column] = setter;
+            converters.add(setter == null ? null
+                    : getValueConvert(batch.getType(column), setter.getParameterTypes()[0]));
+        }
+
+        List<T> targetList = new ArrayList<T>(batch.getSize());
+        for (int row = 0; row < batch.getSize(); row++) {
+            T targetObj = newObject(targetClassType);
+            for (int column = 0; column < columnCount; column++) {
+                if (setters[column] == null)
+                    continue;
+                Object value = batch.get(column, row);
+                if (value != null && converters.get(column) != null) {
+                    value = convertValue(converters.get(column), value, setters[column].getParameterTypes()[0]);
+                    if (value == CONVERT_FAILED)
+                        continue;
+                }
+                invokeSetMethod(setters[column], targetObj, value);
+            }
+            targetList.add(targetObj);
+        }
+        return targetList;
+    }
+
+    /**
+     * 把ColumnBatch中的每一行转换成一个对象,列名称与目标对象的属性名称匹配
+     *
+     * @param batch           按列保存的对象
+     * @param targetClassType 目标对象的class
+     * @param <T>             转换后对象的类型
+     * @return 转换后的list
+     */
+    public static <T> List<T> columns2List(final ColumnBatch batch, final Class<T> targetClassType) {
+        return columns2List(batch, targetClassType, null);
+    }
+
+    // -------------------------------------------
+    //             list与ByteBuffer相互转换
+    // -------------------------------------------
+
+    /**
+     * 获取类的二进制布局,布局由类中有set方法且类型是基本类型,包装类型或String的属性组成,<p>
+     * 按属性名称排序,因此不同的进程对同一个类得到的布局一致
+     *
+     * @param layoutClassType 决定布局的类
+     * @return 二进制布局
+     */
+    public static BinaryLayout binaryLayout(final Class<?> layoutClassType) {
+        BinaryLayout layout = binaryLayouts.get(layoutClassType);
+        if (layout != null)
+            return layout;
+
+        Method[] setMethods = PropertyPlan.of(layoutClassType).getSetters();
+        List<String> names = new ArrayList<String>(setMethods.length);
+        Map<String, Class<?>> types = new HashMap<String, Class<?>>(setMethods.length * 2);
+        for (Method setMethod : setMethods) {
+            Class<?> type = setMethod.getParameterTypes()[0];
+            if (BinaryLayout.isSupported(type)) {
+                String name = getFiledNameBySetOrGetMethod(setMethod);
+                names.add(name);
+                types.put(name, type);
+            }
+        }
+        String[] nameArray = names.toArray(new String[names.size()]);
+        Arrays.sort(nameArray);
+        Class<?>[] typeArray = new Class<?>[nameArray.length];
+        for (int i = 0; i < nameArray.length; i++) {
+            typeArray[i] = types.get(nameArray[i]);
+        }
+
+        layout = new BinaryLayout(nameArray, typeArray);
+        binaryLayouts.put(layoutClassType, layout);
+        return layout;
+    }
+
+    /**
+     * 把list中的对象按layoutClassType的二进制布局写入buffer,从buffer当前的position开始写,<p>
+     * 写完后position移动到写入的数据之后.源对象的属性与布局的属性匹配规则与object2Object<p>
+     * 一致,类型不同时使用ValueConverter转换,没有匹配的属性写成默认值
+     *
+     * @param srcList         源对象list,list中对象的类型必须一致
+     * @param layoutClassType 决定布局的类
+     * @param map             把不同字段的属性进行自定义映射
+     * @param buffer          要写入的buffer,可以是堆内,直接内存或内存映射的buffer
+     * @param <K>             list中原来对象的类型
+     * @return 写入的buffer
+     */
+    public static <K> ByteBuffer list2Buffer(final List<K> srcList, final Class<?> layoutClassType,
+                                             final Map<String, String> map, final ByteBuffer buffer) {
+        BinaryLayout layout = binaryLayout(layoutClassType);
+        BinaryWriter writer = new BinaryWriter(layout, buffer, srcList.size());
+
+        ConversionPlan.Pair[] pairs = null;
+        int[] slots = null;
+        for (int record = 0; record < srcList.size(); record++) {
+            K srcObj = srcList.get(record);
+            if (srcObj == null)
+                continue;
+            if (pairs == null) {
+                pairs = getConversionPlan(srcObj.getClass(), layoutClassType, map).getPairs();
+                slots = new int[pairs.length];
+                for (int i = 0; i < pairs.length; i++) {
+                    slots[i] = layout.indexOf(pairs[i].targetName);
+                }
+            }
+            for (int i = 0; i < pairs.length; i++) {
+                if (slots[i] < 0)
+                    continue;
+                Object value = convertPairValue(pairs[i], PropertyPlan.readValue(pairs[i].getter, srcObj));
+                if (value == CONVERT_FAILED)
+                    continue;
+                try {
+                    writer.set(record, slots[i], value);
+                } catch (ClassCastException e) {
+                    // 类型不一致又没有转换器,保留默认值
+                    // log.warn(e.getMessage());
+                }
+            }
+        }
+        return writer.finish();
+    }
+
+    /**
+     * 把list中的对象按layoutClassType的二进制布局写入buffer
+     *
+     * @param srcList         源对象list,list中对象的类型必须一致
+     * @param layoutClassType 决定布局的类
+     * @param buffer          要写入的buffer
+     * @param <K>             list中原来对象的类型
+     * @return 写入的buffer
+     */
+    public static <K> ByteBuffer list2Buffer(final List<K> srcList, final Class<?> layoutClassType,
+                                             final ByteBuffer buffer) {
+        return list2Buffer(srcList, layoutClassType, null, buffer);
+    }
+
+    /**
+     * 创建读取buffer中记录的flyweight,buffer的position必须指向list2Buffer开始写入的位置
+     *
+     * @param buffer          list2Buffer写入的buffer
+     * @param layoutClassType 写入时使用的布局的类
+     * @return 读取记录的flyweight
+     */
+    public static BinaryReader buffer2Reader(final ByteBuffer buffer, final Class<?> layoutClassType) {
+        return new BinaryReader(binaryLayout(layoutClassType), buffer);
+    }
+
+    // -------------------------------------------
+    //             CSV和JSON-lines文件转换成对象
+    // -------------------------------------------
+
+    /**
+     * 把CSV文件按行转换成对象的Stream.第一行是列名称,列名称与目标对象的属性名称匹配,<p>
+     * 没有匹配的在map中找,每列对应的set方法和String转换器只查找一次,每行直接赋值给目标对象,<p>
+     * 不创建Map.文件通过FileChannel分段读取,内存占用与文件大小无关.parallel为true时按行<p>
+     * 拆分并行转换.字段中不能有换行,空字段不赋值.使用完后需要关闭Stream
+     * <blockquote><pre>
+     * try (Stream<Target> stream = ObjectUtil.csv2Stream(path, Target.class, ',', null, false)) {
+     *     stream.forEach(...);
+     * }
+     * </pre></blockquote>
+     *
+     * @param file            UTF-8编码的CSV文件
+     * @param targetClassType 目标对象的class
+     * @param separator       分隔符
+     * @param map             把列名称映射到目标对象的属性名称
+     * @param parallel        是否并行
+     * @param <T>             转换后对象的类型
+     * @return 目标对象的Stream
+     * @throws IOException 打开文件失败
+     */
+    public static <T> Stream<T> csv2Stream(final Path file, final Class<T> targetClassType, final char separator,
+                                           final Map<String, String> map, final boolean parallel) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            Object[] first = LineSpliterator.readFirstLine(channel);
+            if (first == null) {
+                channel.close();
+                return Stream.empty();
+            }
+
+            List<String> header = new ArrayList<String>();
+            LineParsers.splitCsv((String) first[0], separator, header);
+            Method[] targetObjSetMethods = PropertyPlan.of(targetClassType).getSetters();
+            final StringSlot[] slots = new StringSlot[header.size()];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = getStringSlot(header.get(i).trim(), targetObjSetMethods, map);
+            }
+
+            // 每段创建一个parser,段内的行复用同一个字段list,不用每行新建
+            Supplier<Function<String, T>> parsers = () -> {
+                final List<String> fields = new ArrayList<String>(slots.length);
+                return line -> {
+                    LineParsers.splitCsv(line, separator, fields);
+                    T targetObj = newObject(targetClassType);
+                    for (int i = 0; i < slots.length && i < fields.size(); i++) {
+                        bindString(slots[i], targetObj, fields.get(i));
+                    }
+                    return targetObj;
+                };
+            };
+            return lines2Stream(channel, (Long) first[1], parsers, parallel);
+        } catch (IOException | RuntimeException | Error e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 把逗号分隔的CSV文件按行转换成对象的Stream
+     *
+     * @param file            UTF-8编码的CSV文件
+     * @param targetClassType 目标对象的class
+     * @param <T>             转换后对象的类型
+     * @return 目标对象的Stream
+     * @throws IOException 打开文件失败
+     */
+    public static <T> Stream<T> csv2Stream(final Path file, final Class<T> targetClassType) throws IOException {
+        return csv2Stream(file, targetClassType, ',', null, false);
+    }
+
+    /**
+     * 把JSON-lines文件(每行一个JSON对象)转换成对象的Stream.只支持扁平的JSON对象,<p>
+     * 属性名称与目标对象的属性名称匹配,没有匹配的在map中找,每个属性名称对应的set方法和<p>
+     * String转换器只查找一次.字符串,数字和true/false都按文本通过String的ValueConverter<p>
+     * 转换,嵌套的对象和数组按原始JSON文本处理,null不赋值.使用完后需要关闭Stream
+     *
+     * @param file            UTF-8编码的JSON-lines文件
+     * @param targetClassType 目标对象的class
+     * @param map             把JSON属性名称映射到目标对象的属性名称
+     * @param parallel        是否并行
+     * @param <T>             转换后对象的类型
+     * @return 目标对象的Stream
+     * @throws IOException 打开文件失败
+     */
+    public static <T> Stream<T> jsonLines2Stream(final Path file, final Class<T> targetClassType,
+                                                 final Map<String, String> map, final boolean parallel) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final Method[] targetObjSetMethods = PropertyPlan.of(targetClassType).getSetters();
+            final Map<String, StringSlot> slots = new ConcurrentHashMap<String, StringSlot>();
+
+            Function<String, T> parser = line -> {
+                final T targetObj = newObject(targetClassType);
+                LineParsers.parseJsonLine(line, (key, text) -> {
+                    StringSlot slot = slots.get(key);
+                    if (slot == null) {
+                        slot = getStringSlot(key, targetObjSetMethods, map);
+                        slots.put(key, slot);
+                    }
+                    bindString(slot, targetObj, text);
+                });
+                return targetObj;
+            };
+            return lines2Stream(channel, 0, () -> parser, parallel);
+        } catch (IOException | RuntimeException | Error e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 把JSON-lines文件(每行一个JSON对象)转换成对象的Stream
+     *
+     * @param file            UTF-8编码的JSON-lines文件
+     * @param targetClassType 目标对象的class
+     * @param <T>             转换后对象的类型
+     * @return 目标对象的Stream
+     * @throws IOException 打开文件失败
+     */
+    public static <T> Stream<T> jsonLines2Stream(final Path file, final Class<T> targetClassType) throws IOException {
+        return jsonLines2Stream(file, targetClassType, null, false);
+    }
+
     // -------------------------------------------
     //             一个list转换到另一个list
     // -------------------------------------------
 
+    /**
+     * 异步把list从中源对象类型转换到另外一种类型.同步的转换在executor中执行,需要<p>
+     * AsyncValueConverter的属性先收集整个list中所有不同的值,每个转换器只批量调用一次,<p>
+     * 全部完成后返回的CompletableFuture才完成.executor可以是虚拟线程的Executor.<p>
+     * 源对象为null时目标list中对应的位置也是null
+     *
+     * @param srcList         源对象list,list中对象的类型必须一致
+     * @param targetClassType 转换后的list的中元素的类型
+     * @param map             把不同字段的属性进行自定义映射
+     * @param executor        执行同步转换的Executor
+     * @param <T>             转换后对象的class
+     * @param <K>             list中原来对象的类型
+     * @return 转换后的list
+     */
+    public static <T, K> CompletableFuture<List<T>> list2ListAsync(final List<K> srcList, final Class<T> targetClassType,
+                                                                   final Map<String, String> map, final Executor executor) {
+        ConversionPlan plan = null;
+        for (K srcObj : srcList) {
+            if (srcObj != null) {
+                plan = getConversionPlan(srcObj.getClass(), targetClassType, map);
+                break;
+            }
+        }
+        if (plan == null)
+            return CompletableFuture.completedFuture(new ArrayList<T>(Collections.<T>nCopies(srcList.size(), null)));
+
+        final ConversionPlan.Pair[] pairs = plan.getPairs();
+        return CompletableFuture.supplyAsync(() -> {
+            List<T> targetList = new ArrayList<T>(srcList.size());
+            for (K srcObj : srcList) {
+                if (srcObj == null) {
+                    targetList.add(null);
+                    continue;
+                }
+                T targetObj = newObject(targetClassType);
+                for (ConversionPlan.Pair pair : pairs) {
+                    if (pair.asyncConverter == null)
+                        copyValueByPair(pair, srcObj, targetObj);
+                }
+                targetList.add(targetObj);
+            }
+            return targetList;
+        }, executor).thenCompose(targetList -> completeAsyncPairs(pairs, srcList, targetList));
+    }
+
+    /**
+     * 异步把list从中源对象类型转换到另外一种类型,同步的转换在ForkJoinPool.commonPool()中执行
+     *
+     * @param srcList         源对象list,list中对象的类型必须一致
+     * @param targetClassType 转换后的list的中元素的类型
+     * @param map             把不同字段的属性进行自定义映射
+     * @param <T>             转换后对象的class
+     * @param <K>             list中原来对象的类型
+     * @return 转换后的list
+     */
+    public static <T, K> CompletableFuture<List<T>> list2ListAsync(final List<K> srcList, final Class<T> targetClassType,
+                                                                   final Map<String, String> map) {
+        return list2ListAsync(srcList, targetClassType, map, ForkJoinPool.commonPool());
+    }
+
     /**
      * 把list从中源对象类型转换到另外一种类型,注意长度以targetList和srcList中较
      * 小的长度为准,转换的顺序与List索引一一对应,因此对应顺序需要调用者自己保证
@@ -411,10 +1211,103 @@ public abstract class ObjectUtil {
     }
 
 
+    // ---------------------------------------------------
+    //               转换计划说明
+    // ---------------------------------------------------
+
+    /**
+     * 说明两个类之间的转换计划:匹配的属性,每个属性的赋值方式和使用的转换器,<p>
+     * 以及没有匹配的源属性和目标属性,用于排查转换慢或者属性没有被赋值的问题
+     * <blockquote><pre>
+     * System.out.println(ObjectUtil.explain(Src.class, Target.class, map));
+     * </pre></blockquote>
+     *
+     * @param srcClass    源对象的class
+     * @param targetClass 目标对象的class
+     * @param map         把不同字段的属性进行自定义映射
+     * @return 转换计划的说明
+     */
+    public static ConversionExplain explain(final Class<?> srcClass, final Class<?> targetClass,
+                                            final Map<String, String> map) {
+        ConversionPlan plan = getConversionPlan(srcClass, targetClass, map);
+
+        List<ConversionExplain.FiledMapping> mappings = new ArrayList<ConversionExplain.FiledMapping>();
+        Set<String> matchedSrc = new HashSet<String>();
+        Set<String> matchedTarget = new HashSet<String>();
+        for (ConversionPlan.Pair pair : plan.getPairs()) {
+            Class<?> srcType = pair.getter.getReturnType();
+            ConversionExplain.Strategy strategy;
+            Object converter = null;
+            if (pair.converter != null) {
+                strategy = ConversionExplain.Strategy.CONVERTER;
+                converter = pair.converter;
+            } else if (pair.asyncConverter != null) {
+                strategy = ConversionExplain.Strategy.ASYNC_CONVERTER;
+                converter = pair.asyncConverter;
+            } else if (srcType.isArray() && pair.targetType.isArray()) {
+                strategy = ConversionExplain.Strategy.ARRAY_COPY;
+            } else if (isAssignable(srcType, pair.targetType)) {
+                strategy = ConversionExplain.Strategy.DIRECT;
+            } else if (pair.runtimeLookup) {
+                strategy = ConversionExplain.Strategy.RUNTIME_LOOKUP;
+            } else {
+                strategy = ConversionExplain.Strategy.INCOMPATIBLE;
+            }
+            mappings.add(new ConversionExplain.FiledMapping(pair.srcName, srcType, pair.targetName, pair.targetType,
+                    strategy, converter));
+            matchedSrc.add(pair.srcName);
+            matchedTarget.add(pair.targetName);
+        }
+
+        List<String> unmatchedSrc = new ArrayList<String>();
+        for (String name : PropertyPlan.of(srcClass).getNames()) {
+            if (!matchedSrc.contains(name))
+                unmatchedSrc.add(name);
+        }
+        List<String> unmatchedTarget = new ArrayList<String>();
+        for (Method setMethod : PropertyPlan.of(targetClass).getSetters()) {
+            String name = getFiledNameBySetOrGetMethod(setMethod);
+            if (!matchedTarget.contains(name))
+                unmatchedTarget.add(name);
+        }
+        return new ConversionExplain(srcClass, targetClass, plan.getResolveNanos(), mappings,
+                unmatchedSrc, unmatchedTarget);
+    }
+
+    /**
+     * 说明两个类之间的转换计划
+     *
+     * @param srcClass    源对象的class
+     * @param targetClass 目标对象的class
+     * @return 转换计划的说明
+     */
+    public static ConversionExplain explain(final Class<?> srcClass, final Class<?> targetClass) {
+        return explain(srcClass, targetClass, null);
+    }
+
     // ---------------------------------------------------
     //               private methods
     // ---------------------------------------------------
 
+    /**
+     * 源类型的值是否可以直接赋值给目标类型,基本类型按包装类型比较
+     *
+     * @param srcClass    原类型
+     * @param targetClass 目标类型
+     * @return 可以直接赋值返回true
+     */
+    private static boolean isAssignable(Class<?> srcClass, Class<?> targetClass) {
+        Class<?> newSrcClass = javaTypeMap.get(srcClass);
+        if (newSrcClass == null) {
+            newSrcClass = srcClass;
+        }
+        Class<?> newTargetClass = javaTypeMap.get(targetClass);
+        if (newTargetClass == null) {
+            newTargetClass = targetClass;
+        }
+        return newTargetClass.isAssignableFrom(newSrcClass);
+    }
+
     /**
      * 根据两个类型查找值转换器,本方法有待改进,这里没有考虑类的继承情况<p>
      * 只是简单的较比两个类的类型是否一致,这已经能满足绝大部分的要求
@@ -435,11 +1328,107 @@ public abstract class ObjectUtil {
         }
 
         Map<Class<?>, ValueConverter<?, ?>> targetValueConverts = null;
-        if (valueConverts == null || (targetValueConverts = valueConverts.get(newSrcClass)) == null) {
+        ValueConverter<?, ?> valueConvert = null;
+        if (valueConverts != null && (targetValueConverts = valueConverts.get(newSrcClass)) != null) {
+            valueConvert = targetValueConverts.get(newTargetClass);
+        }
+
+        // 枚举的转换器按枚举类型创建,不需要提前添加
+        if (valueConvert == null && BuiltinValueConverters.ENABLED) {
+            valueConvert = BuiltinValueConverters.enumConvert(newSrcClass, newTargetClass);
+        }
+
+        // 组合使用者添加的转换器
+        if (valueConvert == null && newSrcClass != newTargetClass) {
+            ConversionPlan.Key key = new ConversionPlan.Key(newSrcClass, newTargetClass, null);
+            valueConvert = composedValueConverts.get(key);
+            if (valueConvert == null) {
+                valueConvert = composeValueConvert(newSrcClass, newTargetClass);
+                composedValueConverts.put(key, valueConvert == null ? NO_VALUE_CONVERT : valueConvert);
+            } else if (valueConvert == NO_VALUE_CONVERT) {
+                valueConvert = null;
+            }
+        }
+        return (ValueConverter<Object, Object>) valueConvert;
+    }
+
+    /**
+     * 在使用者添加的转换器中按代价查找最多MAX_CONVERT_HOPS步的最短转换路径,并组合成一个转换器.<p>
+     * 内置转换器不参与组合,避免Long -> String -> Integer溢出或Double -> BigDecimal -> Integer截断.<p>
+     * 按步数逐轮松弛(Bellman-Ford),第k轮只使用k步以内的路径,因此不会漏掉步数多但代价小的前缀
+     *
+     * @param srcClass    原类型,已经转换成包装类型
+     * @param targetClass 目标类型,已经转换成包装类型
+     * @return 组合的转换器, 没有路径返回null
+     */
+    private static ValueConverter<?, ?> composeValueConvert(Class<?> srcClass, Class<?> targetClass) {
+        Map<Class<?>, Integer> distances = new HashMap<Class<?>, Integer>();
+        Map<Class<?>, List<Class<?>>> paths = new HashMap<Class<?>, List<Class<?>>>();
+        distances.put(srcClass, 0);
+        paths.put(srcClass, Collections.<Class<?>>singletonList(srcClass));
+
+        for (int hop = 0; hop < MAX_CONVERT_HOPS; hop++) {
+            // 只从上一轮的结果松弛,本轮的路径最多比上一轮多一步
+            Map<Class<?>, Integer> nextDistances = new HashMap<Class<?>, Integer>(distances);
+            Map<Class<?>, List<Class<?>>> nextPaths = new HashMap<Class<?>, List<Class<?>>>(paths);
+            for (Map.Entry<Class<?>, Integer> entry : distances.entrySet()) {
+                Class<?> node = entry.getKey();
+                Map<Class<?>, ValueConverter<?, ?>> edges = valueConverts.get(node);
+                if (edges == null)
+                    continue;
+                Map<Class<?>, Integer> costs = valueConvertCosts.get(node);
+                for (Map.Entry<Class<?>, ValueConverter<?, ?>> edge : edges.entrySet()) {
+                    if (BuiltinValueConverters.isBuiltin(edge.getValue()))
+                        continue;
+                    Class<?> next = edge.getKey();
+                    Integer cost = costs == null ? null : costs.get(next);
+                    int distance = entry.getValue() + (cost == null ? DEFAULT_CONVERT_COST : cost);
+                    Integer old = nextDistances.get(next);
+                    if (old == null || distance < old) {
+                        List<Class<?>> path = new ArrayList<Class<?>>(paths.get(node));
+                        path.add(next);
+                        nextDistances.put(next, distance);
+                        nextPaths.put(next, path);
+                    }
+                }
+            }
+            distances = nextDistances;
+            paths = nextPaths;
+        }
+
+        List<Class<?>> path = paths.get(targetClass);
+        if (path == null)
             return null;
+        List<ValueConverter<?, ?>> converters = new ArrayList<ValueConverter<?, ?>>(path.size() - 1);
+        for (int i = 1; i < path.size(); i++) {
+            converters.add(valueConverts.get(path.get(i - 1)).get(path.get(i)));
+        }
+        return new ComposedValueConverter(converters, path);
+    }
+
+    /**
+     * 根据两个类型查找异步批量值转换器,查找规则与getValueConvert一致
+     *
+     * @param srcClass    原类型
+     * @param targetClass 目标类型
+     * @return 返回异步批量值转换器, 没有找到返回null
+     */
+    @SuppressWarnings("unchecked")
+    private static AsyncValueConverter<Object, Object> getAsyncValueConvert(Class<?> srcClass, Class<?> targetClass) {
+        Class<?> newSrcClass = javaTypeMap.get(srcClass);
+        if (newSrcClass == null) {
+            newSrcClass = srcClass;
+        }
+        Class<?> newTargetClass = javaTypeMap.get(targetClass);
+        if (newTargetClass == null) {
+            newTargetClass = targetClass;
         }
 
-        return (ValueConverter<Object, Object>) (targetValueConverts.get(newTargetClass));
+        Map<Class<?>, AsyncValueConverter<?, ?>> targetValueConverts = asyncValueConverts.get(newSrcClass);
+        if (targetValueConverts == null) {
+            return null;
+        }
+        return (AsyncValueConverter<Object, Object>) (targetValueConverts.get(newTargetClass));
     }
 
     /**
@@ -482,7 +1471,11 @@ public abstract class ObjectUtil {
 
         // 转换值
         if (valueConvert != null) {
-            value = valueConvert.convert(value);
+            value = convertValue(valueConvert, value, targetObjMethod.getParameterTypes()[0]);
+            if (value == CONVERT_FAILED)
+                return;
+        } else {
+            value = copyArrayValue(value, targetObjMethod.getParameterTypes()[0]);
         }
 
         // 给目标对象的目标字段复制
@@ -497,6 +1490,455 @@ public abstract class ObjectUtil {
         }
     }
 
+    /**
+     * 获取两个类之间的转换计划,第一次调用时匹配get和set方法并查找转换器,之后从缓存中获取
+     *
+     * @param srcClass    原类型
+     * @param targetClass 目标类型
+     * @param map         把不同字段的属性进行自定义映射
+     * @return 转换计划
+     */
+    private static ConversionPlan getConversionPlan(Class<?> srcClass, Class<?> targetClass, Map<String, String> map) {
+        ConversionPlan plan = conversionPlans.get(new ConversionPlan.Key(srcClass, targetClass, map));
+        if (plan != null) {
+            return plan;
+        }
+
+        Object event = ConversionEvents.beginPlanResolution();
+        long start = System.nanoTime();
+
+        PropertyPlan srcPlan = PropertyPlan.of(srcClass);
+        Method[] targetObjSetMethods = PropertyPlan.of(targetClass).getSetters();
+        String[] srcNames = srcPlan.getNames();
+        Method[] srcObjGetMethods = srcPlan.getGetters();
+        List<ConversionPlan.Pair> pairs = new ArrayList<ConversionPlan.Pair>(srcNames.length);
+        for (int i = 0; i < srcNames.length; i++) {
+            Method invokeTargetObjMethod = getInvokeTargetMethod(srcNames[i], targetObjSetMethods);
+
+            // 如果上面没有匹配,则在map映射中找
+            if (invokeTargetObjMethod == null && map != null)
+                invokeTargetObjMethod = getInvokeTargetMethod(map.get(srcNames[i]), targetObjSetMethods);
+            if (invokeTargetObjMethod == null)
+                continue;
+
+            Class<?> srcType = srcObjGetMethods[i].getReturnType();
+            Class<?> targetType = invokeTargetObjMethod.getParameterTypes()[0];
+            ValueConverter<Object, Object> valueConvert = getValueConvert(srcType, targetType);
+            // 添加的AsyncValueConverter优先于内置转换器
+            AsyncValueConverter<Object, Object> asyncValueConvert = valueConvert == null
+                    || BuiltinValueConverters.isBuiltin(valueConvert) ? getAsyncValueConvert(srcType, targetType) : null;
+            if (asyncValueConvert != null)
+                valueConvert = null;
+            // 与object2Object一样,声明类型不能确定值的实际类型时赋值时再查找转换器
+            boolean runtimeLookup = valueConvert == null && asyncValueConvert == null
+                    && !srcType.isPrimitive() && !Modifier.isFinal(srcType.getModifiers())
+                    && !isAssignable(srcType, targetType);
+            pairs.add(new ConversionPlan.Pair(srcNames[i], srcObjGetMethods[i],
+                    getFiledNameBySetOrGetMethod(invokeTargetObjMethod), invokeTargetObjMethod, valueConvert,
+                    asyncValueConvert, runtimeLookup));
+        }
+
+        plan = new ConversionPlan(srcClass, targetClass, pairs.toArray(new ConversionPlan.Pair[pairs.size()]),
+                System.nanoTime() - start);
+        if (event != null) {
+            int converterCount = 0;
+            for (ConversionPlan.Pair pair : pairs) {
+                if (pair.converter != null || pair.asyncConverter != null)
+                    converterCount++;
+            }
+            ConversionEvents.commitPlanResolution(event, srcClass, targetClass, pairs.size(), converterCount);
+        }
+        Map<String, String> mapCopy = map == null ? null : new HashMap<String, String>(map);
+        conversionPlans.put(new ConversionPlan.Key(srcClass, targetClass, mapCopy), plan);
+        return plan;
+    }
+
+    /**
+     * 收集需要异步转换的值,每个AsyncValueConverter批量调用一次,完成后给目标对象赋值
+     *
+     * @param pairs      转换计划中的匹配
+     * @param srcList    源对象list
+     * @param targetList 已经完成同步转换的目标对象list
+     * @param <T>        转换后对象的class
+     * @param <K>        list中原来对象的类型
+     * @return 全部赋值后的目标对象list
+     */
+    private static <T, K> CompletableFuture<List<T>> completeAsyncPairs(ConversionPlan.Pair[] pairs,
+                                                                        final List<K> srcList,
+                                                                        final List<T> targetList) {
+        // 同一个转换器的所有属性共用一次批量调用
+        Map<AsyncValueConverter<Object, Object>, Set<Object>> keys =
+                new IdentityHashMap<AsyncValueConverter<Object, Object>, Set<Object>>();
+        final Map<ConversionPlan.Pair, Object[]> values = new LinkedHashMap<ConversionPlan.Pair, Object[]>();
+        for (ConversionPlan.Pair pair : pairs) {
+            if (pair.asyncConverter == null)
+                continue;
+            Set<Object> pairKeys = keys.get(pair.asyncConverter);
+            if (pairKeys == null) {
+                pairKeys = new HashSet<Object>();
+                keys.put(pair.asyncConverter, pairKeys);
+            }
+            Object[] pairValues = new Object[srcList.size()];
+            for (int i = 0; i < srcList.size(); i++) {
+                if (srcList.get(i) != null) {
+                    pairValues[i] = PropertyPlan.readValue(pair.getter, srcList.get(i));
+                    if (pairValues[i] != null)
+                        pairKeys.add(pairValues[i]);
+                }
+            }
+            values.put(pair, pairValues);
+        }
+        if (values.isEmpty())
+            return CompletableFuture.completedFuture(targetList);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>(keys.size());
+        for (final Map.Entry<AsyncValueConverter<Object, Object>, Set<Object>> entry : keys.entrySet()) {
+            futures.add(entry.getKey().convert(entry.getValue()).thenAccept(result -> {
+                for (Map.Entry<ConversionPlan.Pair, Object[]> pairValues : values.entrySet()) {
+                    ConversionPlan.Pair pair = pairValues.getKey();
+                    if (pair.asyncConverter != entry.getKey())
+                        continue;
+                    Object[] srcValues = pairValues.getValue();
+                    for (int i = 0; i < srcValues.length; i++) {
+                        if (srcValues[i] != null && result.containsKey(srcValues[i]))
+                            invokeSetMethod(pair.setter, targetList.get(i), result.get(srcValues[i]));
+                    }
+                }
+            }));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+                .thenApply(v -> targetList);
+    }
+
+    /**
+     * 按转换计划把源对象的值赋值给目标对象,值为null时赋值为目标属性的默认值
+     *
+     * @param plan      转换计划
+     * @param srcObj    源对象
+     * @param targetObj 目标对象
+     */
+    private static void copyByPlan(ConversionPlan plan, Object srcObj, Object targetObj) {
+        for (ConversionPlan.Pair pair : plan.getPairs()) {
+            copyValueByPair(pair, srcObj, targetObj);
+        }
+    }
+
+    /**
+     * 按转换计划把源对象合并到已有的目标对象,只给值发生变化的属性赋值,<p>
+     * 值为null或者转换失败时和copyValueByPair一样按目标属性的默认值比较和赋值
+     *
+     * @param plan       转换计划
+     * @param targetPlan 目标对象的属性计划,用来读取目标对象当前的值,每个匹配的属性都有get方法
+     * @param srcObj     源对象
+     * @param targetObj  目标对象
+     * @return 有属性被成功赋值返回true
+     */
+    private static boolean mergeByPlan(ConversionPlan plan, PropertyPlan targetPlan, Object srcObj, Object targetObj) {
+        boolean dirty = false;
+        for (ConversionPlan.Pair pair : plan.getPairs()) {
+            Method targetObjGetMethod = targetPlan.getGetter(pair.targetName);
+            Object value = convertPairValue(pair, PropertyPlan.readValue(pair.getter, srcObj));
+            if (value == null || value == CONVERT_FAILED) {
+                value = PropertyPlan.defaultValue(pair.targetType);
+            }
+            if (!Objects.deepEquals(value, PropertyPlan.readValue(targetObjGetMethod, targetObj))
+                    && invokeSetMethod(pair.setter, targetObj, value)) {
+                dirty = true;
+            }
+        }
+        return dirty;
+    }
+
+    /**
+     * 创建从position开始按行读取文件的Stream,关闭Stream时关闭文件,parsers为每段文件创建一个parser
+     */
+    private static <T> Stream<T> lines2Stream(final FileChannel channel, long position,
+                                              Supplier<Function<String, T>> parsers,
+                                              boolean parallel) throws IOException {
+        return StreamSupport.stream(new LineSpliterator<T>(channel, position, channel.size(), parsers), parallel)
+                .onClose(() -> {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * 根据列名称查找目标对象的set方法和String转换器
+     *
+     * @param name                列名称
+     * @param targetObjSetMethods 目标对象的set方法
+     * @param map                 把列名称映射到目标对象的属性名称
+     * @return 列对应的赋值方式, 没有set方法返回StringSlot.NONE
+     */
+    private static StringSlot getStringSlot(String name, Method[] targetObjSetMethods, Map<String, String> map) {
+        Method setter = getInvokeTargetMethod(name, targetObjSetMethods);
+        if (setter == null && map != null)
+            setter = getInvokeTargetMethod(map.get(name), targetObjSetMethods);
+        if (setter == null)
+            return StringSlot.NONE;
+
+        Class<?> targetType = setter.getParameterTypes()[0];
+        return new StringSlot(setter, targetType == String.class ? null : getValueConvert(String.class, targetType));
+    }
+
+    /**
+     * 把文本转换后赋值给目标对象,不是String类型的属性,空文本不赋值,没有转换器时不赋值
+     *
+     * @param slot      列对应的赋值方式
+     * @param targetObj 目标对象
+     * @param text      文本
+     */
+    private static void bindString(StringSlot slot, Object targetObj, String text) {
+        if (slot.setter == null)
+            return;
+        if (slot.targetType == String.class || slot.targetType == Object.class) {
+            invokeSetMethod(slot.setter, targetObj, text);
+        } else if (slot.converter != null && !text.isEmpty()) {
+            Object value = convertValue(slot.converter, text, slot.targetType);
+            if (value != CONVERT_FAILED)
+                invokeSetMethod(slot.setter, targetObj, value);
+        }
+    }
+
+    /**
+     * 按一对匹配的get和set方法赋值,值为null或者转换失败时赋值为目标属性的默认值
+     *
+     * @param pair      匹配的get和set方法
+     * @param srcObj    源对象
+     * @param targetObj 目标对象
+     */
+    private static void copyValueByPair(ConversionPlan.Pair pair, Object srcObj, Object targetObj) {
+        Object value = convertPairValue(pair, PropertyPlan.readValue(pair.getter, srcObj));
+        if (value == null || value == CONVERT_FAILED) {
+            value = PropertyPlan.defaultValue(pair.targetType);
+        }
+        // 赋值失败时设置成默认值,重复使用的目标对象不会残留上一条记录的值
+        if (!invokeSetMethod(pair.setter, targetObj, value)) {
+            invokeSetMethod(pair.setter, targetObj, PropertyPlan.defaultValue(pair.targetType));
+        }
+    }
+
+    /**
+     * 按一对匹配的get和set方法转换值:有转换器的使用转换器,需要运行时查找的按值的实际类型<p>
+     * 查找转换器,数组复制成新的数组
+     *
+     * @param pair  匹配的get和set方法
+     * @param value get方法的返回值
+     * @return 转换后的值, 内置转换器抛出异常时返回CONVERT_FAILED
+     */
+    private static Object convertPairValue(ConversionPlan.Pair pair, Object value) {
+        if (value == null)
+            return null;
+        if (pair.converter != null)
+            return convertValue(pair.converter, value, pair.targetType);
+        if (pair.runtimeLookup) {
+            ValueConverter<Object, Object> valueConvert = getValueConvert(value.getClass(), pair.targetType);
+            if (valueConvert != null)
+                return convertValue(valueConvert, value, pair.targetType);
+        }
+        return copyArrayValue(value, pair.targetType);
+    }
+
+    /**
+     * 数组类型的属性复制一份新的数组再赋值,避免源对象和目标对象共用同一个数组,<p>
+     * 也使int[]等可以赋值给long[]等不同类型的数组属性
+     *
+     * @param value      属性的值
+     * @param targetType set方法的参数类型
+     * @return 复制的数组, 不是数组或者无法转换时返回原来的值
+     */
+    private static Object copyArrayValue(Object value, Class<?> targetType) {
+        if (value == null || !targetType.isArray() || !value.getClass().isArray()) {
+            return value;
+        }
+        try {
+            return copyArray(value, targetType.getComponentType(), null);
+        } catch (IllegalArgumentException e) {
+            // log.warn(e.getMessage());
+            return value;
+        }
+    }
+
+    /**
+     * 把数组复制到元素类型是targetComponentType的新数组
+     *
+     * @param srcArray            源数组
+     * @param targetComponentType 新数组的元素类型
+     * @param map                 元素是对象时,把不同字段的属性进行自定义映射
+     * @return 新数组
+     */
+    private static Object copyArray(Object srcArray, Class<?> targetComponentType, Map<String, String> map) {
+        Class<?> srcComponentType = srcArray.getClass().getComponentType();
+        int length = Array.getLength(srcArray);
+
+        // 基本类型数组批量复制
+        if (srcComponentType.isPrimitive() && targetComponentType.isPrimitive()) {
+            Object targetArray = PrimitiveArrays.copy(srcArray, targetComponentType);
+            if (targetArray != null)
+                return targetArray;
+        }
+
+        // 引用类型可以直接赋值的,复制引用
+        Object targetArray = Array.newInstance(targetComponentType, length);
+        if (!srcComponentType.isPrimitive() && targetComponentType.isAssignableFrom(srcComponentType)) {
+            System.arraycopy(srcArray, 0, targetArray, 0, length);
+            return targetArray;
+        }
+
+        // 有转换器或者是包装类型与基本类型之间的,逐个元素转换
+        ValueConverter<Object, Object> valueConvert = getValueConvert(srcComponentType, targetComponentType);
+        if (valueConvert != null || isAssignable(srcComponentType, targetComponentType)) {
+            for (int i = 0; i < length; i++) {
+                Object value = Array.get(srcArray, i);
+                if (value != null && valueConvert != null)
+                    value = convertValue(valueConvert, value, targetComponentType);
+                if (value == CONVERT_FAILED)
+                    continue;
+                if (value != null || !targetComponentType.isPrimitive())
+                    Array.set(targetArray, i, value);
+            }
+            return targetArray;
+        }
+
+        if (srcComponentType.isPrimitive() || targetComponentType.isPrimitive()) {
+            throw new IllegalArgumentException("can not convert " + srcArray.getClass().getSimpleName()
+                    + " to " + targetArray.getClass().getSimpleName());
+        }
+
+        // 多维数组
+        final Object[] srcObjs = (Object[]) srcArray;
+        final Object[] targetObjs = (Object[]) targetArray;
+        if (srcComponentType.isArray() && targetComponentType.isArray()) {
+            for (int i = 0; i < length; i++) {
+                if (srcObjs[i] != null)
+                    targetObjs[i] = copyArray(srcObjs[i], targetComponentType.getComponentType(), map);
+            }
+            return targetArray;
+        }
+
+        // 目标元素不是可以创建的bean时不能按转换计划转换,比如Object[] -> String[],
+        // 逐个元素按实际类型赋值或查找转换器
+        if (!isBeanClass(targetComponentType)) {
+            for (int i = 0; i < length; i++) {
+                targetObjs[i] = element2Value(srcObjs[i], srcArray, targetComponentType);
+            }
+            return targetArray;
+        }
+
+        // 对象数组按转换计划逐个转换,数量较多时并行转换
+        final ConversionPlan plan = getConversionPlan(srcComponentType, targetComponentType, map);
+        if (length >= PARALLEL_ARRAY_THRESHOLD) {
+            IntStream.range(0, length).parallel().forEach(i ->
+                    targetObjs[i] = element2Object(srcObjs[i], plan, targetComponentType, map));
+        } else {
+            for (int i = 0; i < length; i++) {
+                targetObjs[i] = element2Object(srcObjs[i], plan, targetComponentType, map);
+            }
+        }
+        return targetArray;
+    }
+
+    /**
+     * 是否是可以通过无参构造方法创建并按get/set方法赋值的bean
+     *
+     * @param classType 类型
+     * @return 不是接口,抽象类,数组,枚举,java.*中的类并且有public的无参构造方法时返回true
+     */
+    private static boolean isBeanClass(Class<?> classType) {
+        if (classType.isInterface() || classType.isArray() || classType.isEnum() || classType.isPrimitive()
+                || Modifier.isAbstract(classType.getModifiers()) || classType.getName().startsWith("java."))
+            return false;
+        try {
+            classType.getConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 转换数组中的一个元素,元素是目标类型的实例时直接赋值,否则按元素的实际类型查找转换器
+     *
+     * @param value               元素
+     * @param srcArray            源数组,用于异常信息
+     * @param targetComponentType 新数组的元素类型
+     * @return 转换后的元素, 内置转换器抛出异常时返回null
+     * @throws IllegalArgumentException 元素的实际类型没有转换器
+     */
+    private static Object element2Value(Object value, Object srcArray, Class<?> targetComponentType) {
+        if (value == null || targetComponentType.isInstance(value))
+            return value;
+        ValueConverter<Object, Object> valueConvert = getValueConvert(value.getClass(), targetComponentType);
+        Object result = valueConvert == null ? null : convertValue(valueConvert, value, targetComponentType);
+        if (result == CONVERT_FAILED)
+            return null;
+        if (valueConvert == null || (result != null && !targetComponentType.isInstance(result)))
+            throw new IllegalArgumentException("can not convert " + value.getClass().getSimpleName() + " in "
+                    + srcArray.getClass().getSimpleName() + " to " + targetComponentType.getSimpleName());
+        return result;
+    }
+
+    /**
+     * 转换数组中的一个对象,对象的类型与数组的元素类型一致时使用已经查找好的转换计划
+     */
+    private static Object element2Object(Object srcObj, ConversionPlan plan, Class<?> targetClassType,
+                                         Map<String, String> map) {
+        if (srcObj == null)
+            return null;
+        if (srcObj.getClass() != plan.getSrcType())
+            plan = getConversionPlan(srcObj.getClass(), targetClassType, map);
+        Object targetObj = newObject(targetClassType);
+        copyByPlan(plan, srcObj, targetObj);
+        return targetObj;
+    }
+
+    /**
+     * 调用转换器转换值,开启JFR录制时记录ValueConvertEvent.内置转换器抛出异常时<p>
+     * (比如"abc"转换成Integer)与set方法失败一样忽略,返回CONVERT_FAILED,调用方不给属性赋值,<p>
+     * 使用者添加的转换器抛出的异常照常抛出
+     *
+     * @param valueConvert 转换器
+     * @param value        要转换的值
+     * @param targetType   转换后的类型
+     * @return 转换后的值, 转换失败返回CONVERT_FAILED
+     */
+    private static Object convertValue(ValueConverter<Object, Object> valueConvert, Object value, Class<?> targetType) {
+        Object event = ConversionEvents.beginValueConvert();
+        Object result;
+        try {
+            result = valueConvert.convert(value);
+        } catch (RuntimeException e) {
+            if (!BuiltinValueConverters.isBuiltin(valueConvert))
+                throw e;
+            // log.warn(e.getMessage());
+            return CONVERT_FAILED;
+        }
+        if (event != null)
+            ConversionEvents.commitValueConvert(event, valueConvert.getClass(), value.getClass(), targetType);
+        return result;
+    }
+
+    /**
+     * 调用set方法给目标对象赋值,失败时忽略
+     *
+     * @param targetObjMethod 要调用的set方法
+     * @param targetObj       目标对象
+     * @param value           值
+     * @return 赋值成功返回true
+     */
+    private static boolean invokeSetMethod(Method targetObjMethod, Object targetObj, Object value) {
+        try {
+            targetObjMethod.invoke(targetObj, value);
+            return true;
+        } catch (Exception e) {
+            // log.warn(e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * 根据set或get方法获取对象的字段名称
      *
@@ -531,6 +1973,8 @@ public abstract class ObjectUtil {
      * @return 返回对象set方法
      */
     private static Method getInvokeTargetMethod(String srcFiledName, Method[] targetObjMethods) {
+        if (srcFiledName == null)
+            return null;
         for (Method targetObjMethod : targetObjMethods) {
             if (targetObjMethod.getName().startsWith("set")) { // targetObj的set方法
                 String targetFiledName = getFiledNameBySetOrGetMethod(targetObjMethod);
@@ -595,6 +2039,17 @@ public abstract class ObjectUtil {
         return targetObj;
     }
 
+    /**
+     * 根据属性计划把对象转换成共享key的map
+     *
+     * @param srcObj 要转换的对象
+     * @param plan   对象的属性计划
+     * @return 转换后的map
+     */
+    private static Map<String, Object> object2Map(Object srcObj, PropertyPlan plan) {
+        return new SharedKeyMap(plan.getKeys(), plan.readValues(srcObj));
+    }
+
     /**
      * 把转换成Map对象
      * List<NamePair>
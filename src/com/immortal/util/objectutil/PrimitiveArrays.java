@@ -0,0 +1,122 @@
+package com.immortal.util.objectutil;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 基本类型数组的批量复制,类型相同时使用Arrays.copyOf,可以拓宽的类型(JLS 5.1.2)按拓宽表使用简单的循环
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-31
+ */
+final class PrimitiveArrays {
+
+    private PrimitiveArrays() {
+    }
+
+    /**
+     * JLS 5.1.2 基本类型拓宽转换表,key为源类型,value为可以拓宽到的目标类型
+     */
+    private static final Map<Class<?>, Set<Class<?>>> WIDENINGS = new HashMap<Class<?>, Set<Class<?>>>();
+
+    static {
+        widen(byte.class, short.class, int.class, long.class, float.class, double.class);
+        widen(short.class, int.class, long.class, float.class, double.class);
+        widen(char.class, int.class, long.class, float.class, double.class);
+        widen(int.class, long.class, float.class, double.class);
+        widen(long.class, float.class, double.class);
+        widen(float.class, double.class);
+    }
+
+    private static void widen(Class<?> src, Class<?>... targets) {
+        WIDENINGS.put(src, new HashSet<Class<?>>(Arrays.asList(targets)));
+    }
+
+    /**
+     * 复制基本类型数组,不支持的组合返回null
+     *
+     * @param src             源数组,必须是基本类型数组
+     * @param targetComponent 目标数组的元素类型,必须是基本类型
+     * @return 复制后的数组, 不是相同类型也不能拓宽时返回null
+     */
+    static Object copy(Object src, Class<?> targetComponent) {
+        Class<?> srcComponent = src.getClass().getComponentType();
+        if (srcComponent == targetComponent) {
+            return copySame(src);
+        }
+        Set<Class<?>> targets = WIDENINGS.get(srcComponent);
+        if (targets == null || !targets.contains(targetComponent)) {
+            return null;
+        }
+
+        int length = Array.getLength(src);
+        if (targetComponent == double.class) {
+            double[] r = new double[length];
+            if (src instanceof float[]) {
+                float[] a = (float[]) src;
+                for (int i = 0; i < length; i++) r[i] = a[i];
+            } else {
+                for (int i = 0; i < length; i++) r[i] = longAt(src, i);
+            }
+            return r;
+        } else if (targetComponent == float.class) {
+            float[] r = new float[length];
+            for (int i = 0; i < length; i++) r[i] = longAt(src, i);
+            return r;
+        } else if (targetComponent == long.class) {
+            long[] r = new long[length];
+            for (int i = 0; i < length; i++) r[i] = longAt(src, i);
+            return r;
+        } else if (targetComponent == int.class) {
+            int[] r = new int[length];
+            for (int i = 0; i < length; i++) r[i] = (int) longAt(src, i);
+            return r;
+        }
+        // 只剩byte -> short
+        byte[] a = (byte[]) src;
+        short[] r = new short[length];
+        for (int i = 0; i < length; i++) r[i] = a[i];
+        return r;
+    }
+
+    /**
+     * 按整数读取源数组的元素,只用于byte,short,char,int,long数组,long可以无损表示这些值,
+     * 再转成float/double和直接拓宽的结果相同
+     */
+    private static long longAt(Object src, int i) {
+        if (src instanceof int[]) {
+            return ((int[]) src)[i];
+        } else if (src instanceof long[]) {
+            return ((long[]) src)[i];
+        } else if (src instanceof short[]) {
+            return ((short[]) src)[i];
+        } else if (src instanceof byte[]) {
+            return ((byte[]) src)[i];
+        }
+        return ((char[]) src)[i];
+    }
+
+    private static Object copySame(Object src) {
+        if (src instanceof int[]) {
+            return Arrays.copyOf((int[]) src, ((int[]) src).length);
+        } else if (src instanceof long[]) {
+            return Arrays.copyOf((long[]) src, ((long[]) src).length);
+        } else if (src instanceof byte[]) {
+            return Arrays.copyOf((byte[]) src, ((byte[]) src).length);
+        } else if (src instanceof double[]) {
+            return Arrays.copyOf((double[]) src, ((double[]) src).length);
+        } else if (src instanceof boolean[]) {
+            return Arrays.copyOf((boolean[]) src, ((boolean[]) src).length);
+        } else if (src instanceof float[]) {
+            return Arrays.copyOf((float[]) src, ((float[]) src).length);
+        } else if (src instanceof short[]) {
+            return Arrays.copyOf((short[]) src, ((short[]) src).length);
+        }
+        return Arrays.copyOf((char[]) src, ((char[]) src).length);
+    }
+}
@@ -0,0 +1,198 @@
+package com.immortal.util.objectutil;
+
+import com.immortal.util.objectutil.map.SharedKeys;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 一个类的属性计划,缓存类的get方法、set方法以及属性名称,同一个类只解析一次<p>
+ * 只有无参且有返回值的get方法和只有一个参数的set方法才会被认为是属性的读写方法
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-06-12
+ */
+final class PropertyPlan {
+
+    /**
+     * 已经解析过的类的属性计划
+     */
+    private static final Map<Class<?>, PropertyPlan> plans = new ConcurrentHashMap<Class<?>, PropertyPlan>();
+
+    private final Class<?> type;
+
+    /**
+     * 可读属性的名称,顺序与getters一致
+     */
+    private final String[] names;
+
+    private final Method[] getters;
+
+    private final Method[] setters;
+
+    /**
+     * 属性名称 -> set方法
+     */
+    private final Map<String, Method> setterMap;
+
+    /**
+     * 属性名称 -> get方法
+     */
+    private final Map<String, Method> getterMap;
+
+    /**
+     * 同一个类转换出来的所有Map共享的key
+     */
+    private final SharedKeys keys;
+
+    private PropertyPlan(Class<?> type) {
+        this.type = type;
+
+        List<String> nameList = new ArrayList<String>();
+        List<Method> getterList = new ArrayList<Method>();
+        Map<String, Method> setterMap = new HashMap<String, Method>();
+        for (Method method : type.getDeclaredMethods()) {
+            String name = method.getName();
+            if (name.length() <= 3 || method.isBridge()) {
+                continue;
+            }
+            if (name.startsWith("get") && method.getParameterTypes().length == 0
+                    && method.getReturnType() != void.class) {
+                method.setAccessible(true);
+                nameList.add(toFiledName(name));
+                getterList.add(method);
+            } else if (name.startsWith("set") && method.getParameterTypes().length == 1) {
+                method.setAccessible(true);
+                setterMap.put(toFiledName(name), method);
+            }
+        }
+
+        this.names = nameList.toArray(new String[nameList.size()]);
+        this.getters = getterList.toArray(new Method[getterList.size()]);
+        this.setters = setterMap.values().toArray(new Method[setterMap.size()]);
+        this.setterMap = setterMap;
+        this.getterMap = new HashMap<String, Method>(this.names.length * 2);
+        for (int i = 0; i < this.names.length; i++) {
+            this.getterMap.put(this.names[i], this.getters[i]);
+        }
+        this.keys = new SharedKeys(this.names);
+    }
+
+    /**
+     * 获取一个类的属性计划,第一次调用时解析并缓存
+     *
+     * @param type 类的class对象
+     * @return 类的属性计划
+     */
+    static PropertyPlan of(Class<?> type) {
+        PropertyPlan plan = plans.get(type);
+        if (plan == null) {
+            plan = new PropertyPlan(type);
+            PropertyPlan old = plans.putIfAbsent(type, plan);
+            if (old != null) {
+                plan = old;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * 根据set或get方法名称获取字段名称
+     *
+     * @param methodName get或set方法名称
+     * @return 字段名称
+     */
+    static String toFiledName(String methodName) {
+        return methodName.substring(3, 4).toLowerCase() + methodName.substring(4);
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    String[] getNames() {
+        return names;
+    }
+
+    Method[] getGetters() {
+        return getters;
+    }
+
+    Method getGetter(String filedName) {
+        return getterMap.get(filedName);
+    }
+
+    Method[] getSetters() {
+        return setters;
+    }
+
+    Method getSetter(String filedName) {
+        return setterMap.get(filedName);
+    }
+
+    SharedKeys getKeys() {
+        return keys;
+    }
+
+    /**
+     * 读取对象所有可读属性的值,顺序与getNames()一致
+     *
+     * @param obj 要读取的对象
+     * @return 属性值的数组
+     */
+    Object[] readValues(Object obj) {
+        Object[] values = new Object[getters.length];
+        for (int i = 0; i < getters.length; i++) {
+            values[i] = readValue(getters[i], obj);
+        }
+        return values;
+    }
+
+    /**
+     * 获取类型的默认值,基本类型返回对应的0值或false,其他返回null
+     *
+     * @param type 类型
+     * @return 默认值
+     */
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == double.class) {
+            return 0D;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == float.class) {
+            return 0F;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        }
+        return (char) 0;
+    }
+
+    /**
+     * 调用get方法读取值,调用失败返回null
+     *
+     * @param getter get方法
+     * @param obj    要读取的对象
+     * @return 读取的值
+     */
+    static Object readValue(Method getter, Object obj) {
+        try {
+            return getter.invoke(obj);
+        } catch (Exception e) {
+            // log.warn(e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.immortal.util.objectutil;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ObjectUtil.reconcile的结果,包含同步后的目标对象list,以及新增,修改和删除的目标对象
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-08-07
+ */
+public class ReconcileResult<T> {
+
+    private final List<T> targets;
+
+    private final List<T> inserted;
+
+    private final List<T> updated;
+
+    private final List<T> deleted;
+
+    private final int unchanged;
+
+    ReconcileResult(List<T> targets, List<T> inserted, List<T> updated, List<T> deleted, int unchanged) {
+        this.targets = targets;
+        this.inserted = Collections.unmodifiableList(inserted);
+        this.updated = Collections.unmodifiableList(updated);
+        this.deleted = Collections.unmodifiableList(deleted);
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * @return 同步后的目标对象,顺序与源对象list一致,没有变化的对象是原来的实例
+     */
+    public List<T> getTargets() {
+        return targets;
+    }
+
+    /**
+     * @return 新创建的目标对象
+     */
+    public List<T> getInserted() {
+        return inserted;
+    }
+
+    /**
+     * @return 有属性被修改的目标对象
+     */
+    public List<T> getUpdated() {
+        return updated;
+    }
+
+    /**
+     * @return 源对象中已经不存在的目标对象
+     */
+    public List<T> getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * @return 没有变化的目标对象数量
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ReconcileResult{");
+        sb.append("inserted=").append(inserted.size());
+        sb.append(", updated=").append(updated.size());
+        sb.append(", deleted=").append(deleted.size());
+        sb.append(", unchanged=").append(unchanged);
+        sb.append('}');
+        return sb.toString();
+    }
+}
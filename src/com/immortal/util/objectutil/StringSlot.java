@@ -0,0 +1,38 @@
+package com.immortal.util.objectutil;
+
+import com.immortal.util.objectutil.filed.converter.ValueConverter;
+
+import java.lang.reflect.Method;
+
+/**
+ * 文件中的一列或一个JSON属性对应的目标对象set方法,以及从String转换的转换器
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-08-14
+ */
+final class StringSlot {
+
+    /**
+     * 没有对应set方法的列
+     */
+    static final StringSlot NONE = new StringSlot(null, null);
+
+    final Method setter;
+
+    /**
+     * set方法的参数类型
+     */
+    final Class<?> targetType;
+
+    /**
+     * String转换成targetType的转换器,targetType是String时为null
+     */
+    final ValueConverter<Object, Object> converter;
+
+    StringSlot(Method setter, ValueConverter<Object, Object> converter) {
+        this.setter = setter;
+        this.targetType = setter == null ? null : setter.getParameterTypes()[0];
+        this.converter = converter;
+    }
+}
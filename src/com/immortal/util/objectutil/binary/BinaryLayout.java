@@ -0,0 +1,155 @@
+package com.immortal.util.objectutil.binary;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 对象的定长二进制布局,每个属性占用固定的字节数,字符串只在定长部分保存<p>
+ * 偏移和长度,内容保存在所有记录之后的变长区域.整个buffer的格式如下
+ * <blockquote><pre>
+ * int    记录数量
+ * int    变长区域的字节数
+ * byte[] 记录数量 * getRecordSize() 的定长区域
+ * byte[] 变长区域,UTF-8编码的字符串
+ * </pre></blockquote>
+ * 每个属性在记录中的格式:
+ * <blockquote><pre>
+ * 基本类型      按类型的宽度保存,boolean占1个字节
+ * 包装类型      1个字节的是否为null标志 + 基本类型
+ * String       int 在变长区域中的偏移 + int 字节数,null的字节数是-1
+ * </pre></blockquote>
+ * 写和读必须使用相同的布局和相同的ByteOrder
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-06-26
+ */
+public class BinaryLayout {
+
+    /**
+     * 头部的字节数
+     */
+    public static final int HEADER_SIZE = 8;
+
+    private final String[] names;
+
+    private final Class<?>[] types;
+
+    private final int[] offsets;
+
+    private final int recordSize;
+
+    private final Map<String, Integer> index;
+
+    /**
+     * @param names 属性名称,顺序决定属性在记录中的位置
+     * @param types 属性类型,只支持基本类型,包装类型和String
+     */
+    public BinaryLayout(String[] names, Class<?>[] types) {
+        if (names.length != types.length) {
+            throw new IllegalArgumentException("names.length != types.length");
+        }
+        this.names = names.clone();
+        this.types = types.clone();
+        this.offsets = new int[names.length];
+        this.index = new HashMap<String, Integer>(names.length * 2);
+
+        int offset = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (!isSupported(types[i])) {
+                throw new IllegalArgumentException("unsupported type: " + types[i].getName());
+            }
+            offsets[i] = offset;
+            offset += width(types[i]);
+            index.put(names[i], i);
+        }
+        this.recordSize = offset;
+    }
+
+    /**
+     * 类型是否能保存在二进制布局中
+     *
+     * @param type 属性类型
+     * @return 基本类型, 包装类型和String返回true
+     */
+    public static boolean isSupported(Class<?> type) {
+        return type == String.class || primitiveWidth(unbox(type)) > 0;
+    }
+
+    public int getSlotCount() {
+        return names.length;
+    }
+
+    public String getName(int slot) {
+        return names[slot];
+    }
+
+    public Class<?> getType(int slot) {
+        return types[slot];
+    }
+
+    public int getOffset(int slot) {
+        return offsets[slot];
+    }
+
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    /**
+     * 获取属性的下标
+     *
+     * @param name 属性名称
+     * @return 下标, 没有找到返回-1
+     */
+    public int indexOf(String name) {
+        Integer i = index.get(name);
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * 基本类型返回本身,包装类型返回对应的基本类型,其他返回null
+     */
+    static Class<?> unbox(Class<?> type) {
+        if (type.isPrimitive()) {
+            return type;
+        } else if (type == Integer.class) {
+            return int.class;
+        } else if (type == Long.class) {
+            return long.class;
+        } else if (type == Double.class) {
+            return double.class;
+        } else if (type == Boolean.class) {
+            return boolean.class;
+        } else if (type == Float.class) {
+            return float.class;
+        } else if (type == Short.class) {
+            return short.class;
+        } else if (type == Byte.class) {
+            return byte.class;
+        } else if (type == Character.class) {
+            return char.class;
+        }
+        return null;
+    }
+
+    private static int primitiveWidth(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return 0;
+    }
+
+    private static int width(Class<?> type) {
+        if (type == String.class) {
+            return 8;
+        }
+        return primitiveWidth(unbox(type)) + (type.isPrimitive() ? 0 : 1);
+    }
+}
@@ -0,0 +1,255 @@
+package com.immortal.util.objectutil.binary;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 直接从ByteBuffer中读取记录的flyweight,一个reader同一时间只指向一条记录,<p>
+ * 通过moveTo切换记录,getInt/getLong等按类型读取的方法不会为每条记录创建对象.<p>
+ * view创建的接口视图使用方便,但每次调用get方法都会装箱基本类型,性能敏感的循环中<p>
+ * 应该先用getLayout().indexOf查找属性的下标,再调用按类型读取的方法.
+ * <blockquote><pre>
+ * interface TargetView {
+ *     String getName();
+ *     int getAge();
+ * }
+ * BinaryReader reader = ObjectUtil.buffer2Reader(buffer, Target.class);
+ * TargetView view = reader.view(TargetView.class);
+ * for (int i = 0; i < reader.size(); i++) {
+ *     reader.moveTo(i);
+ *     view.getName();
+ * }
+ * </pre></blockquote>
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-06-26
+ */
+public class BinaryReader {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final BinaryLayout layout;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * 用于批量读取字符串的字节,不改变buffer的position
+     */
+    private final ByteBuffer varBuffer;
+
+    private final int count;
+
+    private final int fixedStart;
+
+    private final int varStart;
+
+    /**
+     * 当前记录在buffer中的位置
+     */
+    private int recordPosition;
+
+    /**
+     * 从buffer当前的position读取头部,buffer的position不会改变
+     *
+     * @param layout 写入时使用的布局
+     * @param buffer 要读取的buffer
+     */
+    public BinaryReader(BinaryLayout layout, ByteBuffer buffer) {
+        this.layout = layout;
+        this.buffer = buffer;
+        this.varBuffer = buffer.duplicate();
+        int base = buffer.position();
+        this.count = buffer.getInt(base);
+        this.fixedStart = base + BinaryLayout.HEADER_SIZE;
+        this.varStart = fixedStart + count * layout.getRecordSize();
+        this.recordPosition = fixedStart;
+    }
+
+    public BinaryLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @return 记录数量
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 指向第record条记录
+     *
+     * @param record 记录的下标
+     * @return 本对象
+     */
+    public BinaryReader moveTo(int record) {
+        if (record < 0 || record >= count) {
+            throw new IndexOutOfBoundsException("record: " + record);
+        }
+        recordPosition = fixedStart + record * layout.getRecordSize();
+        return this;
+    }
+
+    /**
+     * 包装类型或String的属性是否为null,基本类型总是返回false
+     */
+    public boolean isNull(int slot) {
+        Class<?> type = layout.getType(slot);
+        int position = recordPosition + layout.getOffset(slot);
+        if (type == String.class) {
+            return buffer.getInt(position + 4) < 0;
+        }
+        return !type.isPrimitive() && buffer.get(position) == 0;
+    }
+
+    public int getInt(int slot) {
+        return buffer.getInt(valuePosition(slot));
+    }
+
+    public long getLong(int slot) {
+        return buffer.getLong(valuePosition(slot));
+    }
+
+    public double getDouble(int slot) {
+        return buffer.getDouble(valuePosition(slot));
+    }
+
+    public float getFloat(int slot) {
+        return buffer.getFloat(valuePosition(slot));
+    }
+
+    public short getShort(int slot) {
+        return buffer.getShort(valuePosition(slot));
+    }
+
+    public byte getByte(int slot) {
+        return buffer.get(valuePosition(slot));
+    }
+
+    public char getChar(int slot) {
+        return buffer.getChar(valuePosition(slot));
+    }
+
+    public boolean getBoolean(int slot) {
+        return buffer.get(valuePosition(slot)) != 0;
+    }
+
+    public String getString(int slot) {
+        int position = recordPosition + layout.getOffset(slot);
+        int length = buffer.getInt(position + 4);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        varBuffer.position(varStart + buffer.getInt(position));
+        varBuffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * 读取当前记录的一个属性,基本类型会被装箱
+     *
+     * @param slot 属性的下标
+     * @return 值
+     */
+    public Object get(int slot) {
+        Class<?> type = layout.getType(slot);
+        if (type == String.class) {
+            return getString(slot);
+        }
+        if (isNull(slot)) {
+            return null;
+        }
+        Class<?> primitive = BinaryLayout.unbox(type);
+        if (primitive == int.class) {
+            return getInt(slot);
+        } else if (primitive == long.class) {
+            return getLong(slot);
+        } else if (primitive == double.class) {
+            return getDouble(slot);
+        } else if (primitive == boolean.class) {
+            return getBoolean(slot);
+        } else if (primitive == float.class) {
+            return getFloat(slot);
+        } else if (primitive == short.class) {
+            return getShort(slot);
+        } else if (primitive == byte.class) {
+            return getByte(slot);
+        } else {
+            return getChar(slot);
+        }
+    }
+
+    /**
+     * 创建一个接口的视图,接口中的getXxx方法读取当前记录的xxx属性,<p>
+     * 视图只创建一次,随着moveTo指向不同的记录.布局中没有的属性返回null或默认值.<p>
+     * 视图通过动态代理实现,每次调用都会装箱基本类型,只是为了使用方便,<p>
+     * 大量记录的读取使用getInt/getLong等方法
+     *
+     * @param viewType 只包含get方法的接口
+     * @param <V>      视图的类型
+     * @return 视图
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V view(Class<V> viewType) {
+        final Map<Method, Integer> slots = new HashMap<Method, Integer>();
+        for (Method method : viewType.getMethods()) {
+            String name = method.getName();
+            if (name.startsWith("get") && name.length() > 3 && method.getParameterTypes().length == 0) {
+                slots.put(method, layout.indexOf(name.substring(3, 4).toLowerCase() + name.substring(4)));
+            }
+        }
+
+        return (V) Proxy.newProxyInstance(viewType.getClassLoader(), new Class<?>[]{viewType},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        Integer slot = slots.get(method);
+                        if (slot != null && slot >= 0) {
+                            return get(slot);
+                        }
+                        if (method.getDeclaringClass() == Object.class) {
+                            if ("equals".equals(method.getName())) {
+                                return proxy == args[0];
+                            } else if ("hashCode".equals(method.getName())) {
+                                return System.identityHashCode(proxy);
+                            }
+                            return viewType.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                        }
+                        return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    private int valuePosition(int slot) {
+        int position = recordPosition + layout.getOffset(slot);
+        return layout.getType(slot).isPrimitive() ? position : position + 1;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return (char) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0F;
+        }
+        return 0D;
+    }
+}
@@ -0,0 +1,170 @@
+package com.immortal.util.objectutil.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * 按BinaryLayout把记录写入ByteBuffer,支持堆内,直接内存和内存映射的ByteBuffer.<p>
+ * 从buffer当前的position开始写,finish()之后position移动到写入的数据之后,<p>
+ * 空间不足时抛出IndexOutOfBoundsException
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-06-26
+ */
+public class BinaryWriter {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final BinaryLayout layout;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * 用于批量写入字符串的字节,不改变buffer的position
+     */
+    private final ByteBuffer varBuffer;
+
+    private final int count;
+
+    private final int base;
+
+    /**
+     * 变长区域开始的位置
+     */
+    private final int varStart;
+
+    /**
+     * 变长区域当前写到的位置
+     */
+    private int varPosition;
+
+    /**
+     * 写入头部并把定长区域清零,所有String属性先标记为null,没有写入的属性读取时是null
+     *
+     * @param layout 布局
+     * @param buffer 要写入的buffer
+     * @param count  记录数量
+     */
+    public BinaryWriter(BinaryLayout layout, ByteBuffer buffer, int count) {
+        this.layout = layout;
+        this.buffer = buffer;
+        this.varBuffer = buffer.duplicate();
+        this.count = count;
+        this.base = buffer.position();
+        this.varStart = base + BinaryLayout.HEADER_SIZE + count * layout.getRecordSize();
+        this.varPosition = varStart;
+
+        buffer.putInt(base, count);
+        for (int i = base + BinaryLayout.HEADER_SIZE; i < varStart; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        for (int slot = 0; slot < layout.getSlotCount(); slot++) {
+            if (layout.getType(slot) != String.class)
+                continue;
+            for (int record = 0; record < count; record++) {
+                buffer.putInt(base + BinaryLayout.HEADER_SIZE + record * layout.getRecordSize()
+                        + layout.getOffset(slot) + 4, -1);
+            }
+        }
+    }
+
+    /**
+     * 写入一条记录的一个属性,值的类型必须与布局中的类型一致,null写成默认值
+     *
+     * @param record 记录的下标
+     * @param slot   属性的下标
+     * @param value  值
+     */
+    public void set(int record, int slot, Object value) {
+        if (record < 0 || record >= count) {
+            throw new IndexOutOfBoundsException("record: " + record);
+        }
+        int position = base + BinaryLayout.HEADER_SIZE + record * layout.getRecordSize() + layout.getOffset(slot);
+        Class<?> type = layout.getType(slot);
+
+        if (type == String.class) {
+            if (value == null) {
+                buffer.putInt(position, 0);
+                buffer.putInt(position + 4, -1);
+                return;
+            }
+            byte[] bytes = ((String) value).getBytes(UTF_8);
+            if (bytes.length > varBuffer.limit() - varPosition) {
+                throw new IndexOutOfBoundsException("no space for " + layout.getName(slot) + " of record " + record);
+            }
+            varBuffer.position(varPosition);
+            varBuffer.put(bytes);
+            buffer.putInt(position, varPosition - varStart);
+            buffer.putInt(position + 4, bytes.length);
+            varPosition += bytes.length;
+            return;
+        }
+
+        // 先检查类型再写null标志,避免类型不一致时留下非null的标志
+        Class<?> primitive = BinaryLayout.unbox(type);
+        if (value != null && !isInstance(primitive, value)) {
+            throw new ClassCastException(value.getClass().getName() + " can not be written to "
+                    + type.getName() + " slot " + layout.getName(slot));
+        }
+        if (!type.isPrimitive()) {
+            // 包装类型先写是否为null的标志
+            buffer.put(position, (byte) (value == null ? 0 : 1));
+            position++;
+        }
+        if (value == null) {
+            return;
+        }
+
+        if (primitive == int.class) {
+            buffer.putInt(position, (Integer) value);
+        } else if (primitive == long.class) {
+            buffer.putLong(position, (Long) value);
+        } else if (primitive == double.class) {
+            buffer.putDouble(position, (Double) value);
+        } else if (primitive == boolean.class) {
+            buffer.put(position, (byte) ((Boolean) value ? 1 : 0));
+        } else if (primitive == float.class) {
+            buffer.putFloat(position, (Float) value);
+        } else if (primitive == short.class) {
+            buffer.putShort(position, (Short) value);
+        } else if (primitive == byte.class) {
+            buffer.put(position, (Byte) value);
+        } else {
+            buffer.putChar(position, (Character) value);
+        }
+    }
+
+    /**
+     * 值是否是基本类型对应的包装类型
+     */
+    private static boolean isInstance(Class<?> primitive, Object value) {
+        if (primitive == int.class) {
+            return value instanceof Integer;
+        } else if (primitive == long.class) {
+            return value instanceof Long;
+        } else if (primitive == double.class) {
+            return value instanceof Double;
+        } else if (primitive == boolean.class) {
+            return value instanceof Boolean;
+        } else if (primitive == float.class) {
+            return value instanceof Float;
+        } else if (primitive == short.class) {
+            return value instanceof Short;
+        } else if (primitive == byte.class) {
+            return value instanceof Byte;
+        }
+        return value instanceof Character;
+    }
+
+    /**
+     * 写入变长区域的长度,并把buffer的position移动到写入的数据之后
+     *
+     * @return 写入的buffer
+     */
+    public ByteBuffer finish() {
+        buffer.putInt(base + 4, varPosition - varStart);
+        buffer.position(varPosition);
+        return buffer;
+    }
+}
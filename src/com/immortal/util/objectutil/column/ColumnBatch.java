@@ -0,0 +1,217 @@
+package com.immortal.util.objectutil.column;
+
+/**
+ * 按列保存的一批对象,每个属性一列.基本类型的属性保存在对应的基本类型数组中<p>
+ * (int[],long[],double[]等),其他类型的属性保存在Object[]中,元素都是列类型的实例
+ * <blockquote><pre>
+ * ColumnBatch batch = ObjectUtil.list2Columns(srcList, Target.class);
+ * int[] ages = batch.getIntColumn("age");
+ * Object[] names = batch.getObjectColumn("name");
+ * </pre></blockquote>
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-06-19
+ */
+public class ColumnBatch {
+
+    private final int size;
+
+    private final String[] names;
+
+    private final Class<?>[] types;
+
+    /**
+     * 每一列的数组
+     */
+    private final Object[] columns;
+
+    /**
+     * 创建一个ColumnBatch,并根据每列的类型分配数组
+     *
+     * @param names 列名称
+     * @param types 列类型
+     * @param size  行数
+     */
+    public ColumnBatch(String[] names, Class<?>[] types, int size) {
+        if (names.length != types.length) {
+            throw new IllegalArgumentException("names.length != types.length");
+        }
+        this.size = size;
+        this.names = names.clone();
+        this.types = types.clone();
+        this.columns = new Object[names.length];
+        for (int i = 0; i < types.length; i++) {
+            this.columns[i] = newColumn(types[i], size);
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getColumnCount() {
+        return names.length;
+    }
+
+    public String getName(int column) {
+        return names[column];
+    }
+
+    public Class<?> getType(int column) {
+        return types[column];
+    }
+
+    /**
+     * 获取列的下标
+     *
+     * @param name 列名称
+     * @return 列的下标, 没有找到返回-1
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 获取列的数组,基本类型返回对应的基本类型数组,其他类型返回Object[]
+     *
+     * @param name 列名称
+     * @return 列的数组, 没有找到返回null
+     */
+    public Object getColumn(String name) {
+        int i = indexOf(name);
+        return i < 0 ? null : columns[i];
+    }
+
+    public int[] getIntColumn(String name) {
+        return (int[]) getColumn(name);
+    }
+
+    public long[] getLongColumn(String name) {
+        return (long[]) getColumn(name);
+    }
+
+    public double[] getDoubleColumn(String name) {
+        return (double[]) getColumn(name);
+    }
+
+    public Object[] getObjectColumn(String name) {
+        return (Object[]) getColumn(name);
+    }
+
+    /**
+     * 设置某一行某一列的值,基本类型的列中null会被设置成默认值
+     *
+     * @param column 列的下标
+     * @param row    行的下标
+     * @param value  值
+     * @throws ClassCastException 值不是列类型的实例,基本类型的列按包装类型检查
+     */
+    public void set(int column, int row, Object value) {
+        Object array = columns[column];
+        Class<?> type = types[column];
+        if (!type.isPrimitive()) {
+            // Object[]可以保存任何对象,读取时按列类型强转,因此写入时检查类型
+            if (value != null && !type.isInstance(value))
+                throw new ClassCastException("can not set " + value.getClass().getName()
+                        + " to column " + names[column] + "(" + type.getName() + ")");
+            ((Object[]) array)[row] = value;
+        } else if (value == null) {
+            setDefault(array, type, row);
+        } else if (type == int.class) {
+            ((int[]) array)[row] = (Integer) value;
+        } else if (type == long.class) {
+            ((long[]) array)[row] = (Long) value;
+        } else if (type == double.class) {
+            ((double[]) array)[row] = (Double) value;
+        } else if (type == boolean.class) {
+            ((boolean[]) array)[row] = (Boolean) value;
+        } else if (type == float.class) {
+            ((float[]) array)[row] = (Float) value;
+        } else if (type == short.class) {
+            ((short[]) array)[row] = (Short) value;
+        } else if (type == byte.class) {
+            ((byte[]) array)[row] = (Byte) value;
+        } else {
+            ((char[]) array)[row] = (Character) value;
+        }
+    }
+
+    /**
+     * 获取某一行某一列的值
+     *
+     * @param column 列的下标
+     * @param row    行的下标
+     * @return 值, 基本类型会被装箱
+     */
+    public Object get(int column, int row) {
+        Object array = columns[column];
+        Class<?> type = types[column];
+        if (!type.isPrimitive()) {
+            return ((Object[]) array)[row];
+        } else if (type == int.class) {
+            return ((int[]) array)[row];
+        } else if (type == long.class) {
+            return ((long[]) array)[row];
+        } else if (type == double.class) {
+            return ((double[]) array)[row];
+        } else if (type == boolean.class) {
+            return ((boolean[]) array)[row];
+        } else if (type == float.class) {
+            return ((float[]) array)[row];
+        } else if (type == short.class) {
+            return ((short[]) array)[row];
+        } else if (type == byte.class) {
+            return ((byte[]) array)[row];
+        } else {
+            return ((char[]) array)[row];
+        }
+    }
+
+    private static Object newColumn(Class<?> type, int size) {
+        if (!type.isPrimitive()) {
+            return new Object[size];
+        } else if (type == int.class) {
+            return new int[size];
+        } else if (type == long.class) {
+            return new long[size];
+        } else if (type == double.class) {
+            return new double[size];
+        } else if (type == boolean.class) {
+            return new boolean[size];
+        } else if (type == float.class) {
+            return new float[size];
+        } else if (type == short.class) {
+            return new short[size];
+        } else if (type == byte.class) {
+            return new byte[size];
+        } else {
+            return new char[size];
+        }
+    }
+
+    private static void setDefault(Object array, Class<?> type, int row) {
+        if (type == int.class) {
+            ((int[]) array)[row] = 0;
+        } else if (type == long.class) {
+            ((long[]) array)[row] = 0L;
+        } else if (type == double.class) {
+            ((double[]) array)[row] = 0D;
+        } else if (type == boolean.class) {
+            ((boolean[]) array)[row] = false;
+        } else if (type == float.class) {
+            ((float[]) array)[row] = 0F;
+        } else if (type == short.class) {
+            ((short[]) array)[row] = 0;
+        } else if (type == byte.class) {
+            ((byte[]) array)[row] = 0;
+        } else {
+            ((char[]) array)[row] = 0;
+        }
+    }
+}
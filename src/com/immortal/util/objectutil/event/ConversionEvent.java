@@ -0,0 +1,48 @@
+package com.immortal.util.objectutil.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 一次对象转换的JFR事件.转换调用非常频繁,因此按采样记录,默认每100次记录1次,<p>
+ * 可以通过系统属性objectutil.jfr.conversionSampling修改,1表示每次都记录
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-17
+ */
+@Name("com.immortal.objectutil.Conversion")
+@Label("Object Conversion")
+@Category("ObjectUtil")
+@Description("Sampled conversion of one source object into a target object")
+public class ConversionEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ConversionEvent.class);
+
+    private static final int SAMPLING = Math.max(1, Integer.getInteger("objectutil.jfr.conversionSampling", 100));
+
+    /**
+     * 采样计数,不需要精确,因此不做同步
+     */
+    private static int counter;
+
+    @Label("Source Class")
+    public Class<?> srcClass;
+
+    @Label("Target Class")
+    public Class<?> targetClass;
+
+    @Label("Sampling Interval")
+    public int sampling = SAMPLING;
+
+    /**
+     * @return 本事件已开启并且本次调用被采样时返回true
+     */
+    public static boolean sample() {
+        return TYPE.isEnabled() && ++counter % SAMPLING == 0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.immortal.util.objectutil.event;
+
+/**
+ * ObjectUtil记录JFR事件的入口.第一次使用时检查一次jdk.jfr模块是否存在,<p>
+ * 存在时通过反射创建JfrEventRecorder,不存在时(比如--limit-modules java.base)<p>
+ * 所有方法什么也不做,因此调用方不会加载任何jdk.jfr的类
+ * <blockquote><pre>
+ * Object event = ConversionEvents.beginConversion();
+ * ... 转换
+ * if (event != null)
+ *     ConversionEvents.commitConversion(event, srcClass, targetClass);
+ * </pre></blockquote>
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-17
+ */
+public final class ConversionEvents {
+
+    private static final EventRecorder RECORDER = createRecorder();
+
+    private ConversionEvents() {
+    }
+
+    private static EventRecorder createRecorder() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ConversionEvents.class.getClassLoader());
+            return (EventRecorder) Class.forName(ConversionEvents.class.getPackage().getName() + ".JfrEventRecorder")
+                    .getDeclaredConstructor().newInstance();
+        } catch (Throwable e) {
+            // log.warn(e.getMessage());
+            return new EventRecorder() {
+            };
+        }
+    }
+
+    /**
+     * 开始一次对象转换,按采样记录
+     *
+     * @return 事件对象, 没有开启或者本次没有被采样时返回null
+     */
+    public static Object beginConversion() {
+        return RECORDER.beginConversion();
+    }
+
+    /**
+     * 提交对象转换事件
+     *
+     * @param event       beginConversion返回的事件对象
+     * @param srcClass    源对象的class
+     * @param targetClass 目标对象的class
+     */
+    public static void commitConversion(Object event, Class<?> srcClass, Class<?> targetClass) {
+        RECORDER.commitConversion(event, srcClass, targetClass);
+    }
+
+    /**
+     * 开始解析转换计划
+     *
+     * @return 事件对象, 没有开启时返回null
+     */
+    public static Object beginPlanResolution() {
+        return RECORDER.beginPlanResolution();
+    }
+
+    /**
+     * 提交解析转换计划的事件
+     *
+     * @param event          beginPlanResolution返回的事件对象
+     * @param srcClass       源对象的class
+     * @param targetClass    目标对象的class
+     * @param pairCount      匹配的属性数量
+     * @param converterCount 使用转换器的属性数量
+     */
+    public static void commitPlanResolution(Object event, Class<?> srcClass, Class<?> targetClass,
+                                            int pairCount, int converterCount) {
+        RECORDER.commitPlanResolution(event, srcClass, targetClass, pairCount, converterCount);
+    }
+
+    /**
+     * 开始一次ValueConverter.convert调用
+     *
+     * @return 事件对象, 没有开启时返回null
+     */
+    public static Object beginValueConvert() {
+        return RECORDER.beginValueConvert();
+    }
+
+    /**
+     * 结束ValueConverter.convert调用,超过阈值时提交事件
+     *
+     * @param event          beginValueConvert返回的事件对象
+     * @param converterClass 转换器的class
+     * @param valueClass     转换前的值的class
+     * @param targetClass    转换后的类型
+     */
+    public static void commitValueConvert(Object event, Class<?> converterClass, Class<?> valueClass,
+                                          Class<?> targetClass) {
+        RECORDER.commitValueConvert(event, converterClass, valueClass, targetClass);
+    }
+}
@@ -0,0 +1,44 @@
+package com.immortal.util.objectutil.event;
+
+/**
+ * 记录ObjectUtil事件的接口,方法的签名中不能出现jdk.jfr的类型,<p>
+ * 默认实现什么也不做,没有jdk.jfr模块时使用
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-17
+ */
+interface EventRecorder {
+
+    /**
+     * @return 事件对象, 没有开启或者本次没有被采样时返回null
+     */
+    default Object beginConversion() {
+        return null;
+    }
+
+    default void commitConversion(Object event, Class<?> srcClass, Class<?> targetClass) {
+    }
+
+    /**
+     * @return 事件对象, 没有开启时返回null
+     */
+    default Object beginPlanResolution() {
+        return null;
+    }
+
+    default void commitPlanResolution(Object event, Class<?> srcClass, Class<?> targetClass,
+                                      int pairCount, int converterCount) {
+    }
+
+    /**
+     * @return 事件对象, 没有开启时返回null
+     */
+    default Object beginValueConvert() {
+        return null;
+    }
+
+    default void commitValueConvert(Object event, Class<?> converterClass, Class<?> valueClass,
+                                    Class<?> targetClass) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.immortal.util.objectutil.event;
+
+/**
+ * 通过JFR记录事件,只有jdk.jfr模块存在时才由ConversionEvents通过反射创建
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-17
+ */
+final class JfrEventRecorder implements EventRecorder {
+
+    @Override
+    public Object beginConversion() {
+        if (!ConversionEvent.sample())
+            return null;
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitConversion(Object event, Class<?> srcClass, Class<?> targetClass) {
+        ConversionEvent conversionEvent = (ConversionEvent) event;
+        conversionEvent.srcClass = srcClass;
+        conversionEvent.targetClass = targetClass;
+        conversionEvent.commit();
+    }
+
+    @Override
+    public Object beginPlanResolution() {
+        if (!PlanResolutionEvent.enabled())
+            return null;
+        PlanResolutionEvent event = new PlanResolutionEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitPlanResolution(Object event, Class<?> srcClass, Class<?> targetClass,
+                                     int pairCount, int converterCount) {
+        PlanResolutionEvent planEvent = (PlanResolutionEvent) event;
+        planEvent.srcClass = srcClass;
+        planEvent.targetClass = targetClass;
+        planEvent.pairCount = pairCount;
+        planEvent.converterCount = converterCount;
+        planEvent.commit();
+    }
+
+    @Override
+    public Object beginValueConvert() {
+        if (!ValueConvertEvent.enabled())
+            return null;
+        ValueConvertEvent event = new ValueConvertEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitValueConvert(Object event, Class<?> converterClass, Class<?> valueClass,
+                                   Class<?> targetClass) {
+        ValueConvertEvent convertEvent = (ValueConvertEvent) event;
+        convertEvent.end();
+        if (convertEvent.shouldCommit()) {
+            convertEvent.converterClass = converterClass;
+            convertEvent.valueClass = valueClass;
+            convertEvent.targetClass = targetClass;
+            convertEvent.commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.immortal.util.objectutil.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 解析两个类之间的转换计划的JFR事件,持续时间就是匹配get/set方法和查找转换器的耗时
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-17
+ */
+@Name("com.immortal.objectutil.PlanResolution")
+@Label("Conversion Plan Resolution")
+@Category("ObjectUtil")
+@Description("Resolution of getter/setter pairs and value converters between two classes")
+public class PlanResolutionEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(PlanResolutionEvent.class);
+
+    @Label("Source Class")
+    public Class<?> srcClass;
+
+    @Label("Target Class")
+    public Class<?> targetClass;
+
+    @Label("Matched Pairs")
+    public int pairCount;
+
+    @Label("Converted Pairs")
+    public int converterCount;
+
+    /**
+     * @return 录制中是否开启了本事件,没有开启时不需要创建事件对象
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
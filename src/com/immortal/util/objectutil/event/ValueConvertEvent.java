@@ -0,0 +1,42 @@
+package com.immortal.util.objectutil.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * 一次ValueConverter.convert调用的JFR事件,默认阈值是1毫秒,只记录较慢的转换
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-17
+ */
+@Name("com.immortal.objectutil.ValueConvert")
+@Label("Value Convert")
+@Category("ObjectUtil")
+@Description("Execution of a ValueConverter")
+@Threshold("1 ms")
+public class ValueConvertEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ValueConvertEvent.class);
+
+    @Label("Converter Class")
+    public Class<?> converterClass;
+
+    @Label("Value Class")
+    public Class<?> valueClass;
+
+    @Label("Target Class")
+    public Class<?> targetClass;
+
+    /**
+     * @return 录制中是否开启了本事件,没有开启时不需要创建事件对象
+     */
+    public static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
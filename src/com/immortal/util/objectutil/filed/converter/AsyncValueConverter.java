@@ -0,0 +1,23 @@
+package com.immortal.util.objectutil.filed.converter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 异步批量把S对象转换到T对象,适用于需要查缓存或调用服务的转换,比如把id转换成名称.<p>
+ * ObjectUtil.list2ListAsync会先收集一批对象中所有需要转换的值,去重后只调用一次convert
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-10
+ */
+public interface AsyncValueConverter<S, T> {
+    /**
+     * 批量转换值,返回的Map中没有的key对应的目标属性不会被赋值
+     *
+     * @param keys 要转换的对象,不包含null
+     * @return 要转换的对象 -> 转换后的对象
+     */
+    CompletableFuture<Map<S, T>> convert(Set<S> keys);
+}
@@ -0,0 +1,211 @@
+package com.immortal.util.objectutil.filed.converter;
+
+import com.immortal.util.objectutil.ObjectUtil;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 内置的常用ValueConverter,ObjectUtil初始化时默认添加,所有转换器都是线程安全的:
+ * <blockquote><pre>
+ * Integer/Long/Double/BigDecimal  <->  String
+ * Boolean                         <->  String
+ * Date/LocalDateTime              <->  String  yyyy-MM-dd HH:mm:ss
+ * LocalDate                       <->  String  yyyy-MM-dd
+ * BigDecimal                      <->  Integer/Long/Double
+ * Byte/Short/Character/Integer/Long/Float -> 更宽的数字类型
+ * 枚举                             <->  String/Integer(ordinal),第一次使用时按枚举类型创建
+ * </pre></blockquote>
+ * String转换成其他类型时,空字符串转换成null.BigDecimal转换成Integer/Long时不截断,<p>
+ * 有小数或者超出范围时与格式错误的文本一样转换失败,转换失败的属性不赋值.<p>
+ * 启动时加上-Dobjectutil.builtinConverters=false可以不添加内置转换器,<p>
+ * 也可以通过ObjectUtil.removeValueConvert去掉其中某一个,或者用addValueConvert覆盖
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-24
+ */
+public final class BuiltinValueConverters {
+
+    /**
+     * 是否添加内置转换器
+     */
+    public static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("objectutil.builtinConverters", "true"));
+
+    /**
+     * DateTimeFormatter是不可变的,可以在多线程中共用
+     */
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    /**
+     * addAll添加的转换器,用于区分内置转换器和使用者添加的转换器
+     */
+    private static final Set<ValueConverter<?, ?>> BUILTINS =
+            Collections.newSetFromMap(new IdentityHashMap<ValueConverter<?, ?>, Boolean>());
+
+    private BuiltinValueConverters() {
+    }
+
+    /**
+     * 把所有内置转换器添加到ObjectUtil
+     */
+    public static void addAll() {
+        // 数字 <-> String
+        add((ValueConverter<Integer, String>) i -> Integer.toString(i), Integer.class, String.class);
+        add((ValueConverter<Long, String>) l -> Long.toString(l), Long.class, String.class);
+        add((ValueConverter<Double, String>) d -> Double.toString(d), Double.class, String.class);
+        add((ValueConverter<BigDecimal, String>) BigDecimal::toPlainString, BigDecimal.class, String.class);
+        add((ValueConverter<String, Integer>) s -> s.isEmpty() ? null : Integer.valueOf(s), String.class, Integer.class);
+        add((ValueConverter<String, Long>) s -> s.isEmpty() ? null : Long.valueOf(s), String.class, Long.class);
+        add((ValueConverter<String, Double>) s -> s.isEmpty() ? null : Double.valueOf(s), String.class, Double.class);
+        add((ValueConverter<String, BigDecimal>) s -> s.isEmpty() ? null : new BigDecimal(s), String.class, BigDecimal.class);
+
+        // Boolean <-> String
+        add((ValueConverter<Boolean, String>) b -> b ? "true" : "false", Boolean.class, String.class);
+        add((ValueConverter<String, Boolean>) s -> s.isEmpty() ? null : Boolean.valueOf(s), String.class, Boolean.class);
+
+        // 日期 <-> String
+        add((ValueConverter<Date, String>) date -> DATE_TIME_FORMATTER.format(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault())), Date.class, String.class);
+        add((ValueConverter<String, Date>) s -> s.isEmpty() ? null : Date.from(
+                LocalDateTime.parse(s, DATE_TIME_FORMATTER).atZone(ZoneId.systemDefault()).toInstant()), String.class, Date.class);
+        add((ValueConverter<LocalDateTime, String>) DATE_TIME_FORMATTER::format, LocalDateTime.class, String.class);
+        add((ValueConverter<String, LocalDateTime>) s -> s.isEmpty() ? null : LocalDateTime.parse(s, DATE_TIME_FORMATTER), String.class, LocalDateTime.class);
+        add((ValueConverter<LocalDate, String>) DATE_FORMATTER::format, LocalDate.class, String.class);
+        add((ValueConverter<String, LocalDate>) s -> s.isEmpty() ? null : LocalDate.parse(s, DATE_FORMATTER), String.class, LocalDate.class);
+
+        // BigDecimal <-> 数字
+        add((ValueConverter<BigDecimal, Integer>) BigDecimal::intValueExact, BigDecimal.class, Integer.class);
+        add((ValueConverter<BigDecimal, Long>) BigDecimal::longValueExact, BigDecimal.class, Long.class);
+        add((ValueConverter<BigDecimal, Double>) BigDecimal::doubleValue, BigDecimal.class, Double.class);
+        add((ValueConverter<Integer, BigDecimal>) i -> BigDecimal.valueOf(i), Integer.class, BigDecimal.class);
+        add((ValueConverter<Long, BigDecimal>) BigDecimal::valueOf, Long.class, BigDecimal.class);
+        add((ValueConverter<Double, BigDecimal>) BigDecimal::valueOf, Double.class, BigDecimal.class);
+
+        // 数字类型的拓宽
+        add((ValueConverter<Byte, Short>) b -> (short) b.byteValue(), Byte.class, Short.class);
+        add((ValueConverter<Byte, Integer>) b -> (int) b, Byte.class, Integer.class);
+        add((ValueConverter<Byte, Long>) b -> (long) b, Byte.class, Long.class);
+        add((ValueConverter<Byte, Double>) b -> (double) b, Byte.class, Double.class);
+        add((ValueConverter<Short, Integer>) s -> (int) s, Short.class, Integer.class);
+        add((ValueConverter<Short, Long>) s -> (long) s, Short.class, Long.class);
+        add((ValueConverter<Short, Double>) s -> (double) s, Short.class, Double.class);
+        add((ValueConverter<Character, Integer>) c -> (int) c, Character.class, Integer.class);
+        add((ValueConverter<Character, Long>) c -> (long) c, Character.class, Long.class);
+        add((ValueConverter<Integer, Long>) i -> (long) i, Integer.class, Long.class);
+        add((ValueConverter<Integer, Float>) i -> (float) i, Integer.class, Float.class);
+        add((ValueConverter<Integer, Double>) i -> (double) i, Integer.class, Double.class);
+        add((ValueConverter<Long, Float>) l -> (float) l, Long.class, Float.class);
+        add((ValueConverter<Long, Double>) l -> (double) l, Long.class, Double.class);
+        add((ValueConverter<Float, Double>) f -> (double) f, Float.class, Double.class);
+    }
+
+    /**
+     * 是否是内置转换器,被使用者用addValueConvert覆盖后就不再是内置的了
+     *
+     * @param valueConvert 转换器
+     * @return 是addAll添加的或者枚举的转换器时返回true
+     */
+    public static boolean isBuiltin(ValueConverter<?, ?> valueConvert) {
+        return BUILTINS.contains(valueConvert) || EnumTable.owns(valueConvert);
+    }
+
+    private static void add(ValueConverter<?, ?> valueConvert, Class<?> srcClass, Class<?> targetClass) {
+        BUILTINS.add(valueConvert);
+        ObjectUtil.addValueConvert(valueConvert, srcClass, targetClass);
+    }
+
+    /**
+     * 获取枚举与String或Integer(ordinal)之间的转换器,每个枚举类型的查找表只创建一次
+     *
+     * @param srcClass    原类型
+     * @param targetClass 目标类型
+     * @return 转换器, 两个类型都不是枚举或者另一个类型不是String/Integer时返回null
+     */
+    public static ValueConverter<?, ?> enumConvert(Class<?> srcClass, Class<?> targetClass) {
+        if (Enum.class.isAssignableFrom(srcClass)) {
+            EnumTable table = EnumTable.of(srcClass);
+            if (targetClass == String.class) {
+                return table.toName;
+            } else if (targetClass == Integer.class) {
+                return table.toOrdinal;
+            }
+        } else if (Enum.class.isAssignableFrom(targetClass)) {
+            EnumTable table = EnumTable.of(targetClass);
+            if (srcClass == String.class) {
+                return table.fromName;
+            } else if (srcClass == Integer.class) {
+                return table.fromOrdinal;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 一个枚举类型的查找表
+     */
+    private static final class EnumTable {
+
+        private static final Map<Class<?>, EnumTable> tables = new ConcurrentHashMap<Class<?>, EnumTable>();
+
+        private final ValueConverter<Enum<?>, String> toName;
+        private final ValueConverter<Enum<?>, Integer> toOrdinal;
+        private final ValueConverter<String, Enum<?>> fromName;
+        private final ValueConverter<Integer, Enum<?>> fromOrdinal;
+
+        private EnumTable(Class<?> enumClass) {
+            final Enum<?>[] values = (Enum<?>[]) enumClass.getEnumConstants();
+            final String[] names = new String[values.length];
+            final Map<String, Enum<?>> byName = new HashMap<String, Enum<?>>(values.length * 2);
+            for (Enum<?> value : values) {
+                names[value.ordinal()] = value.name();
+                byName.put(value.name(), value);
+            }
+            this.toName = e -> names[e.ordinal()];
+            this.toOrdinal = Enum::ordinal;
+            this.fromName = s -> {
+                if (s.isEmpty())
+                    return null;
+                Enum<?> e = byName.get(s);
+                if (e == null)
+                    throw new IllegalArgumentException("No enum constant " + enumClass.getName() + "." + s);
+                return e;
+            };
+            this.fromOrdinal = i -> values[i];
+        }
+
+        private static boolean owns(ValueConverter<?, ?> valueConvert) {
+            for (EnumTable table : tables.values()) {
+                if (valueConvert == table.toName || valueConvert == table.toOrdinal
+                        || valueConvert == table.fromName || valueConvert == table.fromOrdinal)
+                    return true;
+            }
+            return false;
+        }
+
+        private static EnumTable of(Class<?> type) {
+            // 带方法体的枚举常量的class是枚举的子类
+            Class<?> enumClass = type.isEnum() ? type : type.getSuperclass();
+            EnumTable table = tables.get(enumClass);
+            if (table == null) {
+                table = new EnumTable(enumClass);
+                tables.put(enumClass, table);
+            }
+            return table;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.immortal.util.objectutil.filed.converter;
+
+import java.util.List;
+
+/**
+ * 把多个ValueConverter串成一个转换器,依次转换,中间结果为null时直接返回null.<p>
+ * ObjectUtil在没有直接的转换器时按转换器的代价找到最短的转换路径并创建本转换器
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-08-21
+ */
+public class ComposedValueConverter implements ValueConverter<Object, Object> {
+
+    private final ValueConverter<?, ?>[] converters;
+
+    /**
+     * 转换路径上的类型,比如Celsius -> Kelvin -> Fahrenheit
+     */
+    private final Class<?>[] path;
+
+    public ComposedValueConverter(List<ValueConverter<?, ?>> converters, List<Class<?>> path) {
+        if (path.size() != converters.size() + 1) {
+            throw new IllegalArgumentException("path.size() != converters.size() + 1");
+        }
+        this.converters = converters.toArray(new ValueConverter<?, ?>[converters.size()]);
+        this.path = path.toArray(new Class<?>[path.size()]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object convert(Object o) {
+        for (ValueConverter<?, ?> converter : converters) {
+            if (o == null) {
+                return null;
+            }
+            o = ((ValueConverter<Object, Object>) converter).convert(o);
+        }
+        return o;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ComposedValueConverter{");
+        for (int i = 0; i < path.length; i++) {
+            if (i > 0) {
+                sb.append(" -> ");
+            }
+            sb.append(path[i].getSimpleName());
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+}
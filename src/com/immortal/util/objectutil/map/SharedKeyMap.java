@@ -0,0 +1,155 @@
+package com.immortal.util.objectutil.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 以数组保存值的紧凑Map,key和key的索引由同一个类的所有Map共享.<p>
+ * 本Map是读多写少的:可以修改已有key的值,但不能添加新的key,也不能删除key,<p>
+ * 这些操作会抛出UnsupportedOperationException
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-06-12
+ */
+public class SharedKeyMap extends AbstractMap<String, Object> {
+
+    private final SharedKeys keys;
+
+    private final Object[] values;
+
+    /**
+     * @param keys   共享的key
+     * @param values 值数组,长度必须与keys一致,不会复制
+     */
+    public SharedKeyMap(SharedKeys keys, Object[] values) {
+        if (keys.size() != values.length) {
+            throw new IllegalArgumentException("keys.size() != values.length");
+        }
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return keys.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = keys.indexOf(key);
+        return i < 0 ? null : values[i];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int i = keys.indexOf(key);
+        if (i < 0) {
+            throw new UnsupportedOperationException("unknown key: " + key);
+        }
+        Object old = values[i];
+        values[i] = value;
+        return old;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<Map.Entry<String, Object>>() {
+                    private int i = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return i < values.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        if (i >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        return new Entry(i++);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * 直接读写values数组的Entry
+     */
+    private class Entry implements Map.Entry<String, Object> {
+        private final int i;
+
+        private Entry(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public String getKey() {
+            return keys.get(i);
+        }
+
+        @Override
+        public Object getValue() {
+            return values[i];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object old = values[i];
+            values[i] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return eq(getKey(), e.getKey()) && eq(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = values[i];
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + values[i];
+        }
+    }
+
+    private static boolean eq(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
@@ -0,0 +1,51 @@
+package com.immortal.util.objectutil.map;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SharedKeyMap的key数组和索引,同一个类转换出来的所有Map共享同一个SharedKeys,<p>
+ * 每个Map只需要保存自己的值数组
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-06-12
+ */
+public final class SharedKeys {
+
+    private final String[] keys;
+
+    /**
+     * key -> 在keys中的下标
+     */
+    private final Map<String, Integer> index;
+
+    public SharedKeys(String[] keys) {
+        this.keys = keys.clone();
+        this.index = new HashMap<String, Integer>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            if (this.index.put(keys[i], i) != null) {
+                throw new IllegalArgumentException("duplicate key: " + keys[i]);
+            }
+        }
+    }
+
+    /**
+     * 获取key的下标
+     *
+     * @param key key
+     * @return 下标, 没有找到返回-1
+     */
+    public int indexOf(Object key) {
+        Integer i = index.get(key);
+        return i == null ? -1 : i;
+    }
+
+    public String get(int i) {
+        return keys[i];
+    }
+
+    public int size() {
+        return keys.length;
+    }
+}
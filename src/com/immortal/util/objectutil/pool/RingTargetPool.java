@@ -0,0 +1,83 @@
+package com.immortal.util.objectutil.pool;
+
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 固定大小的目标对象池,创建时一次性创建所有对象,之后不再创建新对象.<p>
+ * 池中没有可用的对象时acquire会阻塞,直到有对象被release,因此池的大小<p>
+ * 同时也限制了下游还没有处理完的对象数量.acquire和release可以在不同的线程中调用
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-03
+ */
+public class RingTargetPool<T> implements TargetPool<T> {
+
+    private final BlockingQueue<T> queue;
+
+    /**
+     * 已经被取出还没有放回的对象,按引用比较,用来拒绝重复放回或放回不属于本池的对象
+     */
+    private final Set<T> checkedOut =
+            Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<T, Boolean>()));
+
+    /**
+     * @param targetClassType 目标对象的class,必须有无参构造方法
+     * @param size            池的大小
+     */
+    public RingTargetPool(Class<T> targetClassType, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.queue = new ArrayBlockingQueue<T>(size);
+        try {
+            Constructor<T> constructor = targetClassType.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            for (int i = 0; i < size; i++) {
+                queue.add(constructor.newInstance());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public T acquire() {
+        try {
+            T target = queue.take();
+            checkedOut.add(target);
+            return target;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 放回取出的对象
+     *
+     * @param target 目标对象,为null时忽略
+     * @throws IllegalStateException 对象没有从本池取出,或者已经放回过
+     */
+    @Override
+    public void release(T target) {
+        if (target == null)
+            return;
+        if (!checkedOut.remove(target)) {
+            throw new IllegalStateException("target is not checked out from this pool, released twice?");
+        }
+        queue.add(target);
+    }
+
+    /**
+     * @return 池中当前可用的对象数量
+     */
+    public int available() {
+        return queue.size();
+    }
+}
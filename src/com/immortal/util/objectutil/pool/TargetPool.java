@@ -0,0 +1,24 @@
+package com.immortal.util.objectutil.pool;
+
+/**
+ * 可以重复使用的目标对象池,转换时从池中取出目标对象,下游使用完后放回池中
+ *
+ * @author Immortal
+ * @version V1.0
+ * @since 2017-07-03
+ */
+public interface TargetPool<T> {
+    /**
+     * 从池中取出一个目标对象
+     *
+     * @return 目标对象
+     */
+    T acquire();
+
+    /**
+     * 把使用完的目标对象放回池中,放回后调用者不能再使用该对象
+     *
+     * @param target 目标对象
+     */
+    void release(T target);
+}